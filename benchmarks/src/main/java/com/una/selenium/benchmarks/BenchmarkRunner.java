@@ -0,0 +1,43 @@
+package com.una.selenium.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Entry point of target/benchmarks.jar: the regular JMH command line, but results are always written as JSON
+ * to target/jmh/&lt;label&gt;.json, so runs of different commits can be compared (e.g. with jmh.morethan.io).
+ *
+ * The label is -Dbenchmark.label (e.g. the commit id), or the current time.
+ * Example: {@code java -Dbenchmark.label=$(git rev-parse --short HEAD) -jar target/benchmarks.jar ChromeOptions}
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getResult().hasValue()) {
+            // Explicit -rff wins
+            new Runner(options.build()).run();
+            return;
+        }
+        String label = System.getProperty("benchmark.label", String.valueOf(System.currentTimeMillis()));
+        Path result = Paths.get("target", "jmh", label + ".json");
+        Files.createDirectories(result.getParent());
+        options.resultFormat(ResultFormatType.JSON).result(result.toString());
+        new Runner(options.build()).run();
+        System.out.println("JMH results written to " + result.toAbsolutePath());
+    }
+}
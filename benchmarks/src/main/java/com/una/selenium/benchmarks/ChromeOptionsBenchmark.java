@@ -0,0 +1,52 @@
+package com.una.selenium.benchmarks;
+
+import com.una.selenium.tests.support.driver.BrowserPreset;
+import com.una.selenium.tests.support.driver.ChromeOptionsFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the ChromeOptions of each preset, and of turning them into the W3C capabilities map
+ * that is sent to chromedriver with every new session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChromeOptionsBenchmark {
+
+    @Param({"debug-headed", "ci", "fast-headless"})
+    public String preset;
+
+    private BrowserPreset browserPreset;
+
+    @Setup
+    public void setUp() {
+        browserPreset = BrowserPreset.fromId(preset);
+    }
+
+    @Benchmark
+    public ChromeOptions create() {
+        return ChromeOptionsFactory.create(browserPreset);
+    }
+
+    @Benchmark
+    public Map<String, Object> createAndSerialize() {
+        return ChromeOptionsFactory.create(browserPreset).asMap();
+    }
+}
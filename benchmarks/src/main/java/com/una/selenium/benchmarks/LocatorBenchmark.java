@@ -0,0 +1,76 @@
+package com.una.selenium.benchmarks;
+
+import com.una.selenium.tests.support.driver.BrowserPreset;
+import com.una.selenium.tests.support.driver.ChromeOptionsFactory;
+import com.una.selenium.tests.support.driver.SharedChromeDriverService;
+import com.una.selenium.tests.support.fixture.TestSite;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Locating the search box of the local Google fixture by name, CSS selector and XPath
+ * (the three styles used by the exercises), in a fast-headless Chrome.
+ * Needs Chrome and a chromedriver found by ChromeDriverResolver, like the tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorBenchmark {
+
+    private static final By BY_NAME = By.name("q");
+    private static final By BY_CSS = By.cssSelector("textarea[name='q']");
+    private static final By BY_XPATH = By.xpath("//textarea[@name='q']");
+    private static final By BUTTONS_XPATH = By.xpath("//input[@name='btnK' and @type='submit']");
+
+    private WebDriver driver;
+
+    @Setup(Level.Trial)
+    public void openFixture() {
+        driver = SharedChromeDriverService.newSession(ChromeOptionsFactory.create(BrowserPreset.FAST_HEADLESS));
+        driver.get(TestSite.homeUrl());
+    }
+
+    @TearDown(Level.Trial)
+    public void quit() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public WebElement byName() {
+        return driver.findElement(BY_NAME);
+    }
+
+    @Benchmark
+    public WebElement byCssSelector() {
+        return driver.findElement(BY_CSS);
+    }
+
+    @Benchmark
+    public WebElement byXpath() {
+        return driver.findElement(BY_XPATH);
+    }
+
+    @Benchmark
+    public List<WebElement> allButtonsByXpath() {
+        return driver.findElements(BUTTONS_XPATH);
+    }
+}
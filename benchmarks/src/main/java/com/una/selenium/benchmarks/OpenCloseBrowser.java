@@ -0,0 +1,223 @@
+package com.una.selenium.benchmarks;
+
+import com.una.selenium.tests.support.driver.BrowserPreset;
+import com.una.selenium.tests.support.driver.ChromeDriverResolver;
+import com.una.selenium.tests.support.driver.ChromeOptionsFactory;
+import com.una.selenium.tests.support.driver.SharedChromeDriverService;
+import com.una.selenium.tests.support.fixture.FixtureServer;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark do ciclo de vida do navegador (antes: abrir o Chrome, esperar 5 s e fechar).
+ *
+ * Em cada iteração mede:
+ * - cold start: novo processo chromedriver + novo Chrome (como um {@code new ChromeDriver(options)} isolado)
+ * - warm start: novo Chrome no chromedriver partilhado (como os testes fazem com o pool)
+ * - first navigation: primeira navegação da sessão para a página local (FixtureServer)
+ * - quit: fecho da sessão
+ * e imprime p50/p90/p99/max por fase, mais os processos chromedriver/chrome que ficaram abertos no fim.
+ *
+ * As duas sessões usam o mesmo perfil, para que cold vs warm meça só o custo do chromedriver:
+ * --profile template (por omissão) copia o perfil pré-inicializado (ProfileTemplate) dentro do tempo do arranque e
+ * apaga a cópia dentro do tempo do quit, como nos testes; --profile empty usa um perfil vazio nas duas.
+ *
+ * Uso (a partir de benchmarks/):
+ * java -cp target/benchmarks.jar com.una.selenium.benchmarks.OpenCloseBrowser --iterations 20 --preset fast-headless --profile template --json target/lifecycle.json
+ */
+public class OpenCloseBrowser {
+
+    private static final List<String> PHASES = List.of("cold start", "warm start", "first navigation", "quit");
+
+    private final Map<String, List<Long>> samples = new LinkedHashMap<>();
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseArguments(args);
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "10"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "1"));
+        // Opções do Chrome vêm da fábrica central de presets (--preset ou -Dselenium.preset)
+        BrowserPreset preset = options.containsKey("preset") ? BrowserPreset.fromId(options.get("preset")) : BrowserPreset.forRun();
+        String profile = options.getOrDefault("profile",
+                Boolean.parseBoolean(System.getProperty("selenium.profile.template", "true")) ? "template" : "empty");
+        if (!profile.equals("template") && !profile.equals("empty")) {
+            throw new IllegalArgumentException("--profile deve ser template ou empty: " + profile);
+        }
+        // A sessão warm (SharedChromeDriverService) segue a mesma propriedade
+        System.setProperty("selenium.profile.template", String.valueOf(profile.equals("template")));
+
+        ChromeDriverResolver.Resolution resolution = ChromeDriverResolver.resolve();
+        String pageUrl = FixtureServer.get().baseUrl() + "/";
+        System.out.printf("Host: %s (%s %s, %d CPUs), %s, preset %s, profile %s%n", InetAddress.getLocalHost().getHostName(),
+                System.getProperty("os.name"), System.getProperty("os.arch"),
+                Runtime.getRuntime().availableProcessors(), resolution, preset.id(), profile);
+
+        Set<Long> processesBefore = browserProcesses().keySet();
+        OpenCloseBrowser benchmark = new OpenCloseBrowser();
+        // O chromedriver partilhado fica a correr antes da primeira medição de warm start (e o template fica construído)
+        SharedChromeDriverService.newSession(ChromeOptionsFactory.create(preset)).quit();
+        // Iterações de aquecimento: JIT, cache de disco do Chrome
+        OpenCloseBrowser discarded = new OpenCloseBrowser();
+        for (int i = 0; i < warmup; i++) {
+            discarded.iteration(preset, resolution, pageUrl);
+        }
+        for (int i = 1; i <= iterations; i++) {
+            benchmark.iteration(preset, resolution, pageUrl);
+            System.out.println("Iteração " + i + "/" + iterations + " concluída.");
+        }
+        SharedChromeDriverService.stop();
+
+        String table = benchmark.table();
+        System.out.println(table);
+        Map<String, Long> leftovers = leftovers(processesBefore);
+        System.out.println("Processos deixados abertos: " + (leftovers.isEmpty() ? "nenhum" : leftovers));
+        if (options.containsKey("json")) {
+            Path json = Paths.get(options.get("json"));
+            if (json.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(json.toAbsolutePath().getParent());
+            }
+            Files.writeString(json, benchmark.json(preset, profile, resolution, leftovers));
+            System.out.println("Resultados em " + json.toAbsolutePath());
+        }
+    }
+
+    private void iteration(BrowserPreset preset, ChromeDriverResolver.Resolution resolution, String pageUrl) {
+        // Cold: serviço próprio, parado pelo quit()
+        ChromeDriverService service = new ChromeDriverService.Builder()
+                .usingDriverExecutable(resolution.driverPath().toFile())
+                .usingAnyFreePort()
+                .build();
+        // Mesmo perfil que a sessão warm: cópia do template (vazio se desligado) feita dentro do tempo do arranque
+        Path[] profileCopy = new Path[1];
+        WebDriver cold = time("cold start", () -> {
+            ChromeOptions coldOptions = ChromeOptionsFactory.create(preset);
+            profileCopy[0] = SharedChromeDriverService.copyProfileTemplate(coldOptions).orElse(null);
+            return new ChromeDriver(service, coldOptions);
+        });
+        session(cold, pageUrl, profileCopy[0]);
+
+        // Warm: o chromedriver partilhado já está a correr; a cópia do perfil é apagada pelo próprio quit()
+        WebDriver warm = time("warm start", () -> SharedChromeDriverService.newSession(ChromeOptionsFactory.create(preset)));
+        session(warm, pageUrl, null);
+    }
+
+    private void session(WebDriver driver, String pageUrl, Path profileCopy) {
+        time("first navigation", () -> {
+            driver.get(pageUrl);
+            return null;
+        });
+        time("quit", () -> {
+            driver.quit();
+            if (profileCopy != null) {
+                SharedChromeDriverService.deleteProfileCopy(profileCopy);
+            }
+            return null;
+        });
+    }
+
+    private <T> T time(String phase, Supplier<T> action) {
+        long start = System.nanoTime();
+        T result = action.get();
+        samples.computeIfAbsent(phase, key -> new ArrayList<>()).add(System.nanoTime() - start);
+        return result;
+    }
+
+    private String table() {
+        StringBuilder out = new StringBuilder(String.format("%n%-18s %5s %9s %9s %9s %9s%n",
+                "fase (ms)", "n", "p50", "p90", "p99", "max"));
+        for (String phase : PHASES) {
+            List<Long> sorted = sorted(phase);
+            if (!sorted.isEmpty()) {
+                out.append(String.format(Locale.ROOT, "%-18s %5d %9.1f %9.1f %9.1f %9.1f%n", phase, sorted.size(),
+                        millis(percentile(sorted, 50)), millis(percentile(sorted, 90)),
+                        millis(percentile(sorted, 99)), millis(sorted.get(sorted.size() - 1))));
+            }
+        }
+        return out.toString();
+    }
+
+    private String json(BrowserPreset preset, String profile, ChromeDriverResolver.Resolution resolution, Map<String, Long> leftovers) {
+        String phases = PHASES.stream().filter(samples::containsKey).map(phase -> {
+            List<Long> sorted = sorted(phase);
+            return String.format(Locale.ROOT, "    \"%s\": {\"n\": %d, \"p50\": %.3f, \"p90\": %.3f, \"p99\": %.3f, \"max\": %.3f}",
+                    phase, sorted.size(), millis(percentile(sorted, 50)), millis(percentile(sorted, 90)),
+                    millis(percentile(sorted, 99)), millis(sorted.get(sorted.size() - 1)));
+        }).collect(Collectors.joining(",\n"));
+        String processes = leftovers.entrySet().stream()
+                .map(entry -> "\"" + entry.getKey() + "\": " + entry.getValue()).collect(Collectors.joining(", "));
+        return "{\n  \"preset\": \"" + preset.id() + "\",\n  \"profile\": \"" + profile + "\",\n  \"chromeVersion\": \"" + resolution.chromeVersion()
+                + "\",\n  \"os\": \"" + System.getProperty("os.name") + " " + System.getProperty("os.arch")
+                + "\",\n  \"cpus\": " + Runtime.getRuntime().availableProcessors()
+                + ",\n  \"unit\": \"ms\",\n  \"phases\": {\n" + phases + "\n  },\n  \"leftoverProcesses\": {" + processes + "}\n}\n";
+    }
+
+    private List<Long> sorted(String phase) {
+        List<Long> sorted = new ArrayList<>(samples.getOrDefault(phase, List.of()));
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    // Nearest-rank
+    private static long percentile(List<Long> sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // pid -> nome, para chromedriver e Chrome/Chromium
+    private static Map<Long, String> browserProcesses() {
+        Map<Long, String> processes = new TreeMap<>();
+        ProcessHandle.allProcesses().forEach(process -> process.info().command().ifPresent(command -> {
+            String name = Paths.get(command).getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.contains("chromedriver")) {
+                processes.put(process.pid(), "chromedriver");
+            } else if (name.contains("chrome") || name.contains("chromium")) {
+                processes.put(process.pid(), "chrome");
+            }
+        }));
+        return processes;
+    }
+
+    private static Map<String, Long> leftovers(Set<Long> before) {
+        try {
+            // Dá tempo aos processos do Chrome para terminarem depois do quit()
+            Thread.sleep(1_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return browserProcesses().entrySet().stream()
+                .filter(entry -> !before.contains(entry.getKey()))
+                .collect(Collectors.groupingBy(Map.Entry::getValue, TreeMap::new, Collectors.counting()));
+    }
+
+    private static Map<String, String> parseArguments(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Uso: [--iterations N] [--warmup N] [--preset id] [--profile template|empty] [--json ficheiro]");
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
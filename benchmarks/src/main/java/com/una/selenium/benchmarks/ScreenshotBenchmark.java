@@ -0,0 +1,110 @@
+package com.una.selenium.benchmarks;
+
+import com.una.selenium.tests.support.screenshot.ScreenshotStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.OutputType;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Screenshot handling after the browser has produced the base64 PNG:
+ * decoding (OutputType.BYTES vs OutputType.FILE, the old temp-file path), hashing for the content-addressed store,
+ * and writing the image with one NIO channel write.
+ * The input is a synthetic 1280x800 PNG, the size of a fast-headless screenshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScreenshotBenchmark {
+
+    private String base64Png;
+    private byte[] png;
+    private Path directory;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void createScreenshot() throws IOException {
+        BufferedImage image = new BufferedImage(1280, 800, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 1280, 800);
+        graphics.setColor(Color.BLUE);
+        graphics.drawString("Google", 600, 300);
+        graphics.drawRect(340, 380, 600, 44);
+        graphics.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        png = out.toByteArray();
+        base64Png = Base64.getEncoder().encodeToString(png);
+        directory = Files.createTempDirectory("screenshot-benchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] decodeToBytes() {
+        return OutputType.BYTES.convertFromBase64Png(base64Png);
+    }
+
+    @Benchmark
+    public File decodeToTempFile() {
+        File file = OutputType.FILE.convertFromBase64Png(base64Png);
+        file.delete();
+        return file;
+    }
+
+    @Benchmark
+    public String sha256() {
+        return ScreenshotStore.sha256(png);
+    }
+
+    @Benchmark
+    public long writeWithChannel() throws IOException {
+        Path target = directory.resolve(sequence.incrementAndGet() + ".png");
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(png);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.delete(target);
+        return png.length;
+    }
+}
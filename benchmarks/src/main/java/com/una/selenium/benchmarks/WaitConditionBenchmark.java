@@ -0,0 +1,101 @@
+package com.una.selenium.benchmarks;
+
+import com.una.selenium.tests.support.wait.ReadyConditions;
+import com.una.selenium.tests.support.wait.ReadyWait;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JVM-side overhead of evaluating wait conditions that are already true, against an in-memory driver
+ * (so the browser round trip is excluded): raw ExpectedConditions, their ReadyConditions wrappers,
+ * and a full until() through WebDriverWait and ReadyWait.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaitConditionBenchmark {
+
+    private static final By SEARCH_BOX = By.name("q");
+
+    private WebDriver driver;
+    private WebDriverWait webDriverWait;
+    private ReadyWait readyWait;
+
+    @Setup
+    public void createDriver() {
+        WebElement element = (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WebElement.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "isDisplayed", "isEnabled" -> true;
+                    case "hashCode" -> 1;
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+        driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getTitle" -> "Google";
+                    case "findElement" -> element;
+                    case "findElements" -> List.of(element);
+                    // In-page signal of ReadyWait: condition already met
+                    case "executeAsyncScript", "executeScript" -> true;
+                    case "hashCode" -> 2;
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+        webDriverWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        readyWait = new ReadyWait(driver, Duration.ofSeconds(10));
+    }
+
+    @Benchmark
+    public Boolean expectedTitleIs() {
+        return ExpectedConditions.titleIs("Google").apply(driver);
+    }
+
+    @Benchmark
+    public Boolean readyTitleIs() {
+        return ReadyConditions.titleIs("Google").apply(driver);
+    }
+
+    @Benchmark
+    public WebElement expectedClickable() {
+        return ExpectedConditions.elementToBeClickable(SEARCH_BOX).apply(driver);
+    }
+
+    @Benchmark
+    public WebElement readyClickable() {
+        return ReadyConditions.elementToBeClickable(SEARCH_BOX).apply(driver);
+    }
+
+    @Benchmark
+    public Boolean webDriverWaitUntilTitle() {
+        return webDriverWait.until(ExpectedConditions.titleIs("Google"));
+    }
+
+    @Benchmark
+    public Boolean readyWaitUntilTitle() {
+        return readyWait.until(ReadyConditions.titleIs("Google"));
+    }
+}
@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Runs the suite as N shards in N parallel JVMs on this machine (like N CI nodes would) and merges the results.
+#
+#   scripts/run-shards.sh 3                                  # hashed shards
+#   scripts/run-shards.sh 3 -Dshard.weights=durations.tsv    # shards balanced with a shared duration history
+#
+# Each shard writes to target/shards/<i>/ (surefire-reports, selenium-reports, screenshots, console.log);
+# the merged result is in target/shards/merged/ (see shard-summary.txt).
+set -euo pipefail
+
+shards=${1:-2}
+shift || true
+cd "$(dirname "$0")/.."
+
+mvn -B -q test-compile
+rm -rf target/shards
+
+pids=()
+for i in $(seq 1 "$shards"); do
+  out=target/shards/$i
+  mkdir -p "$out"
+  mvn -B surefire:test "-Dshard=$i/$shards" \
+    "-Dsurefire.reportsDirectory=$PWD/$out/surefire-reports" \
+    "-Dselenium.reports.dir=$out/selenium-reports" \
+    "-Dselenium.screenshots.dir=$out/screenshots" \
+    "$@" > "$out/console.log" 2>&1 &
+  pids+=($!)
+done
+
+status=0
+for pid in "${pids[@]}"; do
+  wait "$pid" || status=1
+done
+
+dirs=()
+for i in $(seq 1 "$shards"); do
+  dirs+=("target/shards/$i")
+done
+"${JAVA_HOME:+$JAVA_HOME/bin/}java" -cp target/test-classes com.una.selenium.tests.support.shard.ShardMerge target/shards/merged "${dirs[@]}" || status=1
+exit $status
@@ -1,12 +1,13 @@
 package com.una.selenium.tests.exercise1;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.una.selenium.tests.support.driver.DriverPoolExtension;
+import com.una.selenium.tests.support.wait.ReadyConditions;
+import com.una.selenium.tests.support.wait.ReadyWait;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 
 import java.time.Duration;
 
@@ -15,28 +16,20 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 /**
  * Exercise 1: Opening and Closing a Browser.
  * Writes a script using Selenium WebDriver to open Google Chrome,
- * waits for 5 seconds, and then closes the browser.
+ * waits (up to 5 seconds) for the browser to be ready, and then closes the browser.
+ * The browser session comes from the shared pool (DriverPoolExtension), which resets it
+ * after the test instead of quitting it.
  */
+@ExtendWith(DriverPoolExtension.class)
 public class OpenCloseBrowserTest {
 
     private WebDriver driver;
 
     @BeforeEach
-    void setUp() {
-        // Set up WebDriverManager to manage ChromeDriver
-        WebDriverManager.chromedriver().setup();
-
-        // Configure Chrome options (optional but useful)
-        ChromeOptions options = new ChromeOptions();
-        // options.addArguments("--headless"); // To run without opening the browser window
-        options.addArguments("--start-maximized"); // Start maximized
-        options.addArguments("--disable-gpu"); // Sometimes necessary
-        options.addArguments("--no-sandbox"); // Sometimes necessary in CI environments
-        options.addArguments("--disable-dev-shm-usage"); // Overcome limited resource problems
-
-        // Instantiate WebDriver for Chrome
-        driver = new ChromeDriver(options);
-        System.out.println("Chrome browser opened for test.");
+    void setUp(WebDriver driver) {
+        // The Chrome session is injected by DriverPoolExtension (started or reused from the pool)
+        this.driver = driver;
+        System.out.println("Chrome browser leased for test.");
     }
 
     @Test
@@ -45,26 +38,22 @@ public class OpenCloseBrowserTest {
         assertNotNull(driver, "WebDriver should be initialized.");
         System.out.println("WebDriver instance created.");
 
-        try {
-            // Add a wait of 5 seconds
-            // In real tests, prefer explicit waits (WebDriverWait) over Thread.sleep
-            System.out.println("Waiting for 5 seconds...");
-            Thread.sleep(Duration.ofSeconds(5).toMillis());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // Restore interruption status
-            System.err.println("Thread interrupted during wait: " + e.getMessage());
-        }
-        // The browser will be closed in tearDown()
-        System.out.println("Test logic completed, browser will be closed.");
+        // Instead of a fixed Thread.sleep of 5 seconds, wait (up to 5 seconds) until the page is ready.
+        // The wait returns as soon as the condition is true and records how long it actually took.
+        System.out.println("Waiting up to 5 seconds for the browser to be ready...");
+        ReadyWait wait = new ReadyWait(driver, Duration.ofSeconds(5));
+        wait.until(ReadyConditions.documentReady());
+        System.out.println("Browser ready after " + wait.lastWaitMillis() + " ms.");
+        // The browser will be returned to the pool after the test
+        System.out.println("Test logic completed, browser will be returned to the pool.");
     }
 
     @AfterEach
     void tearDown() {
-        // Close all browser windows opened by the WebDriver instance and end the session
-        if (driver != null) {
-            driver.quit();
-            System.out.println("Chrome browser closed after test.");
-        }
+        // Do NOT call driver.quit(): the pool resets the session (windows, cookies, storage)
+        // and quits it only when it crashes or reaches its reuse limit
+        driver = null;
+        System.out.println("Chrome browser released after test.");
     }
 
     // Challenge: Adapt for other browsers
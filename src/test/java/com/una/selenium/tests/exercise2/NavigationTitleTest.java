@@ -1,12 +1,14 @@
 package com.una.selenium.tests.exercise2;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.junit.jupiter.api.AfterEach;
+import com.una.selenium.tests.support.driver.BrowserFeatures;
+import com.una.selenium.tests.support.driver.BrowserPreset;
+import com.una.selenium.tests.support.driver.BrowserProfile;
+import com.una.selenium.tests.support.driver.DriverPoolExtension;
+import com.una.selenium.tests.support.fixture.TestSite;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -15,29 +17,26 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  * Creates a test that navigates to the Google homepage (https://www.google.com).
  * Uses driver.getTitle() to get the page title.
  * Implements an assertion (using JUnit) to verify if the page title is "Google".
+ * The page comes from the local fixture server by default (-Dselenium.site=live uses the real Google).
+ * The test needs no browser feature (see BrowserFeatures), so it runs on the in-process HtmlUnit tier.
  */
+@ExtendWith(DriverPoolExtension.class)
+@BrowserFeatures({}) // Only loads a page and reads its title: runs in-process on HtmlUnit, no Chrome started
+@BrowserProfile(BrowserPreset.FAST_HEADLESS) // Used with -Dselenium.tier=chrome: no window, images or full page load needed
 public class NavigationTitleTest {
 
     private WebDriver driver;
 
     @BeforeEach
-    void setUp() {
-        // Set up WebDriver before each test
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        // options.addArguments("--headless");
-        options.addArguments("--start-maximized"); // Start maximized
-        options.addArguments("--disable-gpu");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        driver = new ChromeDriver(options);
-        driver.manage().window().maximize(); // Maximize the window
+    void setUp(WebDriver driver) {
+        // The browser is leased from the shared pool before each test and reset afterwards
+        this.driver = driver;
     }
 
     @Test
     void testGoogleTitle() {
-        // Navigate to the Google homepage
-        driver.get("https://www.google.com");
+        // Navigate to the Google homepage (or its local fixture, see TestSite)
+        driver.get(TestSite.homeUrl());
         System.out.println("Navigated to: " + driver.getCurrentUrl());
 
         // Get the current page title
@@ -51,14 +50,5 @@ public class NavigationTitleTest {
         assertEquals(expectedTitle, pageTitle, "The page title is not as expected!");
         System.out.println("Title assertion passed!");
     }
-
-    @AfterEach
-    void tearDown() {
-        // Close the browser after each test
-        if (driver != null) {
-            driver.quit();
-            System.out.println("Browser closed after test.");
-        }
-    }
 }
 
@@ -1,62 +1,65 @@
 package com.una.selenium.tests.exercise3;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.junit.jupiter.api.AfterEach;
+import com.una.selenium.tests.pages.GoogleHomePage;
+import com.una.selenium.tests.support.driver.DriverPoolExtension;
+import com.una.selenium.tests.support.network.BlockResources;
+import com.una.selenium.tests.support.wait.ReadyConditions;
+import com.una.selenium.tests.support.wait.ReadyWait;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.openqa.selenium.By;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 
+import static com.una.selenium.tests.support.network.ResourceType.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 /**
  * Exercise 3: Locating Elements and Interacting.
  * Accesses the Google search page (https://www.google.com).
  * Locates the search field using a selector (ID, Name, CSS, or XPath).
  * Enters the text "Selenium WebDriver" into the search field using sendKeys().
  * Locates the "Google Search" or "I'm Feeling Lucky" button and clicks it using click().
+ * The page comes from the local fixture server by default (-Dselenium.site=live uses the real Google).
+ * The elements come from the {@link GoogleHomePage} page object.
  */
+@ExtendWith(DriverPoolExtension.class)
+// Assertions never look at images, fonts, media or analytics: the browser does not even request them
+@BlockResources(types = {IMAGE, FONT, MEDIA},
+        urls = {"*google-analytics.com/*", "*googletagmanager.com/*", "*doubleclick.net/*", "*gstatic.com/og/*"})
 public class FindAndInteractTest {
 
     private WebDriver driver;
-    private WebDriverWait wait;
+    private ReadyWait wait;
 
     @BeforeEach
-    void setUp() {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        // options.addArguments("--headless");
-        options.addArguments("--start-maximized");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        driver = new ChromeDriver(options);
-        driver.manage().window().maximize();
-        // Configure an explicit wait (WebDriverWait) with a 10-second timeout
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+    void setUp(WebDriver driver) {
+        // The browser is leased from the shared pool before each test and reset afterwards
+        this.driver = driver;
+        // Configure an explicit wait with a 10-second timeout
+        // ReadyWait is a WebDriverWait that is notified by the page (no 500 ms polling)
+        wait = new ReadyWait(driver, Duration.ofSeconds(10));
     }
 
     @Test
     void testGoogleSearchInteraction() {
-        // Access the Google search page
-        driver.get("https://www.google.com");
-        System.out.println("Navigated to: " + driver.getCurrentUrl());
+        // Access the Google search page (or its local fixture, see TestSite)
+        GoogleHomePage home = GoogleHomePage.open(driver, wait);
+        System.out.println("Navigated to: " + home.currentUrl());
 
-        // Locate the search field (textarea with name='q')
-        // Using By.name as one possible selector
-        WebElement searchBox = wait.until(ExpectedConditions.visibilityOfElementLocated(By.name("q")));
-        System.out.println("Search field located.");
+        // The search field (textarea with name='q', located using By.name as one possible selector)
+        // is a lazy page-object element: it is located (waiting until visible) on first use, then reused
+        WebElement searchBox = home.searchBox();
 
         // Enter the text "Selenium WebDriver" into the search field
         String searchText = "Selenium WebDriver";
         searchBox.sendKeys(searchText);
         System.out.println("Text '" + searchText + "' entered into search field.");
+        // Same element, same page: the cached handle is used, no second lookup
+        assertEquals(searchText, searchBox.getAttribute("value"), "Search field does not contain the typed text.");
 
         // Simulate pressing Enter to submit the search (alternative to clicking the button)
         // searchBox.sendKeys(Keys.RETURN);
@@ -65,19 +68,14 @@ public class FindAndInteractTest {
 
         // Locate the "Google Search" button (selector and text might vary)
         // Attempt 1: Using By.name("btnK") - common, but might change
-        // WebElement searchButton = wait.until(ExpectedConditions.elementToBeClickable(By.name("btnK")));
-
-        // Attempt 2: Using a more robust XPath that searches for the button by value or aria-label
-        // This XPath tries to find an input or button element with the text 'Google Search'
-        // Note: The exact selector might need adjustment depending on Google's version/language
-        // It's crucial to wait for the button to be clickable, especially if elements load dynamically
-        WebElement searchButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("(//input[@name='btnK' and @type='submit'])[2] | //button[contains(@aria-label, 'Google Search')]"))
-        );
-        // Note: Sometimes there are multiple 'btnK' inputs, the second one is often the visible search button.
-        // Adjust the XPath index [2] or selector as needed based on inspection.
+        // WebElement searchButton = wait.until(ReadyConditions.elementToBeClickable(By.name("btnK")));
 
-        System.out.println("Search button located.");
+        // Attempt 2: The page object uses a locator chain with the known shapes of the button
+        // (input btnK or button with aria-label); all alternatives are checked in one call
+        // It's crucial to wait for the button to be clickable, especially if elements load dynamically:
+        // the lazy element waits for it when it is first used
+        WebElement searchButton = home.searchButton();
+        System.out.println("Search button declared: " + searchButton);
 
         // Click the search button
         searchButton.click();
@@ -85,18 +83,10 @@ public class FindAndInteractTest {
 
         // Wait for the results page to load (best practice: wait for a specific element on the results page)
         // Here, we wait for the title to contain the search term
-        wait.until(ExpectedConditions.titleContains(searchText));
+        wait.until(ReadyConditions.titleContains(searchText));
         System.out.println("Results page loaded. Title: " + driver.getTitle());
     }
 
-    @AfterEach
-    void tearDown() {
-        if (driver != null) {
-            driver.quit();
-            System.out.println("Browser closed.");
-        }
-    }
-
     /*
     Challenge: Explore different locators
     - By ID: If the search field had a unique ID (e.g., By.id("APjFqb")) - IDs can be dynamic!
@@ -1,21 +1,27 @@
 package com.una.selenium.tests.exercise4;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.junit.jupiter.api.AfterEach;
+import com.una.selenium.tests.support.driver.BrowserPreset;
+import com.una.selenium.tests.support.driver.BrowserProfile;
+import com.una.selenium.tests.support.driver.DriverPoolExtension;
+import com.una.selenium.tests.support.fixture.PageState;
+import com.una.selenium.tests.support.fixture.TestSite;
+import com.una.selenium.tests.support.network.BlockResources;
+import com.una.selenium.tests.support.query.ElementQuery;
+import com.una.selenium.tests.support.query.QueryResult;
+import com.una.selenium.tests.support.wait.ReadyConditions;
+import com.una.selenium.tests.support.wait.ReadyWait;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
-import java.util.List;
 
+import static com.una.selenium.tests.support.network.ResourceType.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -24,35 +30,44 @@ import static org.junit.jupiter.api.Assertions.*;
  * Writes a test that checks if a specific element (e.g., a link to the official Selenium website)
  * is present on the page using findElement() and handling NoSuchElementException,
  * or using findElements() to check if the list of elements is not empty.
+ * The findElements() variant uses a batched ElementQuery: one round trip for the lookup and the visibility
+ * of every match, instead of one isDisplayed() call per link.
+ * The page comes from the local fixture server by default (-Dselenium.site=live uses the real Google).
+ * The search runs once per class ({@link PageState}); each test starts from the saved results page.
  */
+@ExtendWith(DriverPoolExtension.class)
+// Only the result links matter: fonts, media and trackers are never requested (images are off in fast-headless anyway)
+@BlockResources(types = {IMAGE, FONT, MEDIA},
+        urls = {"*google-analytics.com/*", "*googletagmanager.com/*", "*doubleclick.net/*", "*gstatic.com/og/*"})
+@BrowserProfile(BrowserPreset.FAST_HEADLESS) // Only reads the page: no window, images or full page load needed
 public class ElementExistenceTest {
 
-    private WebDriver driver;
-    private WebDriverWait wait;
-    private final String SEARCH_TERM = "Selenium WebDriver";
+    private static final String SEARCH_TERM = "Selenium WebDriver";
     private final String EXPECTED_LINK_PARTIAL_HREF = "selenium.dev"; // Part of the official website URL
 
+    // Both tests only read the results page: the search runs once per class, each test reloads its saved state
+    @RegisterExtension
+    static final PageState RESULTS = PageState.of("results for '" + SEARCH_TERM + "'", ElementExistenceTest::search);
+
+    private WebDriver driver;
+
     @BeforeEach
-    void setUp() {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        // options.addArguments("--headless");
-        options.addArguments("--start-maximized");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        driver = new ChromeDriver(options);
-        driver.manage().window().maximize();
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+    void setUp(WebDriver driver) {
+        // The browser is leased from the shared pool before each test and reset afterwards
+        this.driver = driver;
+        RESULTS.restore(driver);
+    }
 
-        // Perform the search before the test
-        driver.get("https://www.google.com");
-        WebElement searchBox = wait.until(ExpectedConditions.visibilityOfElementLocated(By.name("q")));
+    // Perform the search (on Google or its local fixture, see TestSite)
+    private static void search(WebDriver driver) {
+        ReadyWait wait = new ReadyWait(driver, Duration.ofSeconds(10));
+        driver.get(TestSite.homeUrl());
+        WebElement searchBox = wait.until(ReadyConditions.visibilityOfElementLocated(By.name("q")));
         searchBox.sendKeys(SEARCH_TERM);
         // Submit the search (can be done by clicking the button or pressing Enter)
         searchBox.submit(); // submit() works on form elements
         // Wait for the results page to load (checking the title)
-        wait.until(ExpectedConditions.titleContains(SEARCH_TERM));
+        wait.until(ReadyConditions.titleContains(SEARCH_TERM));
         System.out.println("Results page for '" + SEARCH_TERM + "' loaded.");
     }
 
@@ -77,30 +92,23 @@ public class ElementExistenceTest {
 
     @Test
     void testElementExistenceUsingFindElements() {
-        // Method 2: Using findElements() and checking the list size
-        // findElements() returns an empty list if no elements are found, does not throw an exception
-        List<WebElement> seleniumLinks = driver
-                .findElements(By.xpath("//a[contains(@href, '" + EXPECTED_LINK_PARTIAL_HREF + "')]"));
+        // Method 2: Looking up all matches and checking the list size
+        // Like findElements(), the query returns an empty result if no elements are found, does not throw an exception.
+        // Unlike findElements() + isDisplayed() per element, count and visibility of every match
+        // come back in a single WebDriver round trip.
+        QueryResult seleniumLinks = ElementQuery.of(driver)
+                .find(By.xpath("//a[contains(@href, '" + EXPECTED_LINK_PARTIAL_HREF + "')]"));
 
         // Verify that the list of found elements is not empty
         assertFalse(seleniumLinks.isEmpty(),
                 "Method 2: No link to " + EXPECTED_LINK_PARTIAL_HREF + " was found (list empty).");
 
-        // Optional: Verify if at least one of the found links is displayed
-        boolean isAnyLinkDisplayed = seleniumLinks.stream().anyMatch(WebElement::isDisplayed);
-        assertTrue(isAnyLinkDisplayed,
+        // Optional: Verify if at least one of the found links is displayed (no extra round trip)
+        assertTrue(seleniumLinks.anyDisplayed(),
                 "Method 2: Link(s) to " + EXPECTED_LINK_PARTIAL_HREF + " found, but none are visible.");
 
         System.out.println("Method 2: At least one link to " + EXPECTED_LINK_PARTIAL_HREF
-                + " found via findElements(). List size: " + seleniumLinks.size());
-    }
-
-    @AfterEach
-    void tearDown() {
-        if (driver != null) {
-            driver.quit();
-            System.out.println("Browser closed.");
-        }
+                + " found via a batched query. List size: " + seleniumLinks.count());
     }
 }
 
@@ -1,24 +1,22 @@
 package com.una.selenium.tests.exercise6;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.apache.commons.io.FileUtils; // Needs commons-io dependency
-import org.junit.jupiter.api.AfterEach;
+import com.una.selenium.tests.support.driver.BrowserFeature;
+import com.una.selenium.tests.support.driver.BrowserFeatures;
+import com.una.selenium.tests.support.driver.DriverPoolExtension;
+import com.una.selenium.tests.support.fixture.TestSite;
+import com.una.selenium.tests.support.forensics.FailureForensicsExtension;
+import com.una.selenium.tests.support.screenshot.ScreenshotWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.api.extension.TestWatcher;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 
-import java.io.File;
-import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Optional;
+import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -26,85 +24,72 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
  * Exercise 6: Capturing Screenshots.
  * Modifies a previous test to capture a screenshot of the page in case of test failure.
  * Uses the TakesScreenshot interface from Selenium and saves the image to a specific directory.
+ * The image is taken as bytes and written by a background ScreenshotWriter, so the failing test does not wait for the disk.
+ * Identical screenshots (e.g. the same broken page in many tests) are stored once, see ScreenshotStore.
+ * The pooled driver is released after the TestWatcher callbacks, so the watcher still sees the failing page.
+ * The watcher looks the driver up in the ExtensionContext store, so the class is safe to run in parallel.
+ * The page comes from the local fixture server by default (-Dselenium.site=live uses the real Google).
+ * Each test declares the browser features it needs (BrowserFeatures): the title check runs on in-process HtmlUnit,
+ * the failing test on Chrome, which can take the screenshot.
  */
+// FailureForensicsExtension adds a zip with page source, console/network events and the last commands
+@ExtendWith({DriverPoolExtension.class, FailureForensicsExtension.class})
 public class ScreenshotOnFailureTest {
 
-    // IMPORTANT: WebDriver needs to be accessible in the TestWatcher.
-    // Making it static simplifies this example, but BE CAREFUL with parallel execution!
-    // A better approach in complex scenarios might involve custom extensions or context management.
-    static WebDriver driver;
+    // Each test gets its own driver; the TestWatcher finds it through DriverPoolExtension
+    // (ExtensionContext store), so no static field is needed and parallel execution is safe.
+    private WebDriver driver;
 
     // Register the TestWatcher extension
     @RegisterExtension
     ScreenshotTestWatcher watcher = new ScreenshotTestWatcher();
 
     @BeforeEach
-    void setUp() {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        // options.addArguments("--headless");
-        options.addArguments("--start-maximized");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        driver = new ChromeDriver(options);
-        driver.manage().window().maximize();
+    void setUp(WebDriver driver) {
+        // The browser is leased from the shared pool before each test and reset afterwards
+        this.driver = driver;
     }
 
     @Test
+    @BrowserFeatures({}) // Title check only: in-process HtmlUnit session, no Chrome started
     void testGoogleTitle_Success() {
-        driver.get("https://www.google.com");
+        driver.get(TestSite.homeUrl());
         String pageTitle = driver.getTitle();
         assertEquals("Google", pageTitle, "The page title is not as expected!");
         System.out.println("Success test: Title verified.");
     }
 
     @Test
+    @BrowserFeatures(BrowserFeature.SCREENSHOTS) // The watcher captures the failing page: needs Chrome
     void testGoogleTitle_Failure() {
-        driver.get("https://www.google.com");
+        driver.get(TestSite.homeUrl());
         String pageTitle = driver.getTitle();
         // Force an assertion failure to test screenshot capture
         assertEquals("Gooogle", pageTitle, "The page title is not as expected (intentional failure)!");
         System.out.println("This print will not be executed due to the previous failure.");
     }
 
-    @AfterEach
-    void tearDown() {
-        if (driver != null) {
-            driver.quit();
-            System.out.println("Browser closed.");
-        }
-    }
-
     // Inner or outer class implementing TestWatcher
-    // Needs access to the WebDriver instance to take the screenshot
+    // Needs access to the WebDriver instance of the failed test to take the screenshot
     public static class ScreenshotTestWatcher implements TestWatcher {
 
         @Override
         public void testFailed(ExtensionContext context, Throwable cause) {
             System.out.println("Test failed: " + context.getDisplayName() + ". Capturing screenshot...");
+            WebDriver driver = DriverPoolExtension.driverOf(context).orElse(null);
             if (driver instanceof TakesScreenshot) {
-                File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-                try {
-                    // Create a unique filename with timestamp
-                    String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-                    // Get test method name safely
-                    String testMethodName = context.getTestMethod().map(method -> method.getName()).orElse("unknown_test");
-                    String filename = "screenshot_" + testMethodName + "_" + timestamp + ".png";
-
-                    // Define the directory to save (e.g., target/screenshots)
-                    // Using target/ is standard for Maven build outputs
-                    File destDir = new File("target/screenshots");
-                    if (!destDir.exists()) {
-                        destDir.mkdirs(); // Create the directory if it doesn't exist
-                    }
-                    File destFile = new File(destDir, filename);
-
-                    FileUtils.copyFile(screenshot, destFile); // Use Apache Commons IO
-                    System.out.println("Screenshot saved to: " + destFile.getAbsolutePath());
-                } catch (IOException e) {
-                    System.err.println("Error saving screenshot: " + e.getMessage());
-                }
+                // Take the screenshot as bytes: no temp file written by the driver
+                byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+                // Get test method name safely
+                String testMethodName = context.getTestMethod().map(method -> method.getName()).orElse("unknown_test");
+                String testId = context.getRequiredTestClass().getSimpleName() + "#" + testMethodName;
+
+                // The writer stores the image in target/screenshots/blobs under its content hash and records
+                // test id + timestamp in target/screenshots/index.tsv, in the background;
+                // it blocks here only if too many screenshots are pending.
+                // Under the test's unique id, the forensics bundle reuses this capture
+                Path destFile = ScreenshotWriter.shared().submit(testId, context.getUniqueId(), screenshot);
+                System.out.println("Screenshot queued for: " + destFile.toAbsolutePath());
             } else {
                 System.err.println("Current WebDriver does not support screenshots.");
             }
@@ -0,0 +1,51 @@
+package com.una.selenium.tests.pages;
+
+import com.una.selenium.tests.support.fixture.TestSite;
+import com.una.selenium.tests.support.locator.LocatorChain;
+import com.una.selenium.tests.support.page.Page;
+import com.una.selenium.tests.support.wait.ReadyWait;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Google homepage (or its local fixture, see TestSite): search box, search button and "About" link.
+ * The elements are looked up on first use and reused while the page stays the same.
+ */
+public class GoogleHomePage extends Page {
+
+    public static final String TITLE = "Google";
+
+    // Textarea (or input) with name='q'
+    private final WebElement searchBox = visible(By.name("q"));
+    // Sometimes there are multiple 'btnK' inputs, the second one is often the visible search button;
+    // all known shapes of the button are checked in one call, the one that matched is remembered per page and locale
+    private final WebElement searchButton = clickable(LocatorChain.named("search-button")
+            .or(By.xpath("(//input[@name='btnK' and @type='submit'])[2]"))
+            .or(By.xpath("//button[contains(@aria-label, 'Google Search')]")));
+    // The link text depends on the locale
+    private final WebElement aboutLink = clickable(LocatorChain.named("about-link")
+            .or(By.linkText("Sobre")) // Portuguese
+            .or(By.linkText("About"))); // English
+
+    public GoogleHomePage(WebDriver driver, ReadyWait wait) {
+        super(driver, wait);
+    }
+
+    public static GoogleHomePage open(WebDriver driver, ReadyWait wait) {
+        driver.get(TestSite.homeUrl());
+        return new GoogleHomePage(driver, wait);
+    }
+
+    public WebElement searchBox() {
+        return searchBox;
+    }
+
+    public WebElement searchButton() {
+        return searchButton;
+    }
+
+    public WebElement aboutLink() {
+        return aboutLink;
+    }
+}
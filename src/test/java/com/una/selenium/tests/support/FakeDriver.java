@@ -0,0 +1,129 @@
+package com.una.selenium.tests.support;
+
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory stand-in for a {@link WebDriver} (or a WebElement, a TargetLocator...) in unit tests that need no browser.
+ *
+ * Calls are answered by method name. toString, equals and hashCode behave like those of a plain object. Any other
+ * call returns null (false or 0 for primitives), or fails with UnsupportedOperationException on a {@link #strict()}
+ * fake. switchTo(), manage() and navigate() of a lenient driver return lenient fakes whose WebDriver results are the
+ * driver itself, so reset code such as {@code driver.switchTo().window(handle).close()} runs through.
+ *
+ * <pre>{@code
+ * WebDriver driver = FakeDriver.driver().named("s1").implementing(JavascriptExecutor.class)
+ *         .on("executeScript", args -> probeResult)
+ *         .build();
+ * }</pre>
+ */
+public final class FakeDriver<T> {
+
+    /**
+     * The result of one call, from its arguments (an empty array for calls without arguments).
+     */
+    @FunctionalInterface
+    public interface Answer {
+        Object answer(Object[] args) throws Throwable;
+    }
+
+    private final Class<T> type;
+    private final List<Class<?>> interfaces = new ArrayList<>();
+    private final Map<String, Answer> answers = new HashMap<>();
+    private String name;
+    private boolean strict;
+    // The driver a nested fake (TargetLocator, Options...) belongs to
+    private WebDriver owner;
+
+    private FakeDriver(Class<T> type) {
+        this.type = type;
+        interfaces.add(type);
+    }
+
+    public static FakeDriver<WebDriver> driver() {
+        return of(WebDriver.class);
+    }
+
+    public static <T> FakeDriver<T> of(Class<T> type) {
+        return new FakeDriver<>(type);
+    }
+
+    /**
+     * What toString() returns.
+     */
+    public FakeDriver<T> named(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Further interfaces of the fake (JavascriptExecutor, HasCapabilities...).
+     */
+    public FakeDriver<T> implementing(Class<?>... more) {
+        interfaces.addAll(List.of(more));
+        return this;
+    }
+
+    public FakeDriver<T> on(String method, Answer answer) {
+        answers.put(method, answer);
+        return this;
+    }
+
+    public FakeDriver<T> returning(String method, Object value) {
+        return on(method, args -> value);
+    }
+
+    /**
+     * Calls without an answer fail instead of returning null: for tests that check exactly what is called.
+     */
+    public FakeDriver<T> strict() {
+        strict = true;
+        return this;
+    }
+
+    public T build() {
+        Object fake = Proxy.newProxyInstance(FakeDriver.class.getClassLoader(), interfaces.toArray(Class<?>[]::new),
+                (proxy, method, args) -> {
+                    Answer answer = answers.get(method.getName());
+                    if (answer != null) {
+                        return answer.answer(args == null ? new Object[0] : args);
+                    }
+                    switch (method.getName()) {
+                        case "toString":
+                            return name != null ? name : "Fake " + type.getSimpleName();
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            break;
+                    }
+                    if (strict) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    Class<?> returned = method.getReturnType();
+                    WebDriver driver = proxy instanceof WebDriver itself ? itself : owner;
+                    if (returned == WebDriver.class && owner != null) {
+                        return owner;
+                    }
+                    if (returned.getEnclosingClass() == WebDriver.class && returned.isInterface() && driver != null) {
+                        FakeDriver<?> nested = of(returned);
+                        nested.owner = driver;
+                        return nested.build();
+                    }
+                    return defaultValue(returned);
+                });
+        return type.cast(fake);
+    }
+
+    // null for objects and void, false/0 for primitives
+    private static Object defaultValue(Class<?> type) {
+        return type.isPrimitive() && type != void.class ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+}
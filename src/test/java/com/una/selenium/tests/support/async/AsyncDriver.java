@@ -0,0 +1,144 @@
+package com.una.selenium.tests.support.async;
+
+import com.una.selenium.tests.support.driver.BrowserPreset;
+import com.una.selenium.tests.support.driver.ChromeOptionsFactory;
+import com.una.selenium.tests.support.driver.SharedChromeDriverService;
+import com.una.selenium.tests.support.wait.ReadyWait;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Non-blocking facade over one WebDriver session, for scenarios that drive several browsers at once
+ * (e.g. two users chatting): every call returns a CompletableFuture instead of blocking the caller.
+ *
+ * Calls on the same AsyncDriver run one after the other, in submission order (a WebDriver session is not
+ * thread-safe), each on its own virtual thread; calls on different AsyncDrivers run in parallel. A failed call
+ * completes its future exceptionally and does not stop the following ones. There is no thread per session and
+ * no pool to size: an idle session costs nothing, and dozens of sessions only wait on their browsers.
+ *
+ * WebElements obtained here belong to the session too: interact with them through {@link #call}/{@link #run}
+ * (or {@link #clickAsync}/{@link #sendKeysAsync}) so they stay in the session's queue.
+ *
+ * <pre>{@code
+ * AsyncDriver alice = AsyncDriver.of(driver);
+ * try (AsyncDriver bob = AsyncDriver.start(BrowserPreset.FAST_HEADLESS).join()) {
+ *     CompletableFuture.allOf(alice.get(url), bob.get(url)).join();
+ *     assertEquals(alice.titleAsync().join(), bob.titleAsync().join());
+ * }
+ * }</pre>
+ */
+public final class AsyncDriver implements AutoCloseable {
+
+    private static final ExecutorService VIRTUAL_THREADS = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("async-driver-", 0).factory());
+
+    private final WebDriver driver;
+    private final boolean owned;
+    // Completes when the last submitted call has finished; the next call starts after it
+    private CompletableFuture<?> tail = CompletableFuture.completedFuture(null);
+
+    private AsyncDriver(WebDriver driver, boolean owned) {
+        this.driver = driver;
+        this.owned = owned;
+    }
+
+    /**
+     * Facade over an existing session (e.g. the one injected by DriverPoolExtension); {@link #close} leaves it open.
+     */
+    public static AsyncDriver of(WebDriver driver) {
+        return new AsyncDriver(driver, false);
+    }
+
+    /**
+     * Starts a new browser outside the driver pool, on a virtual thread, so several can start at the same time.
+     * {@link #close} quits it.
+     */
+    public static CompletableFuture<AsyncDriver> start(BrowserPreset preset) {
+        return CompletableFuture.supplyAsync(
+                () -> new AsyncDriver(SharedChromeDriverService.newSession(ChromeOptionsFactory.create(preset)), true),
+                VIRTUAL_THREADS);
+    }
+
+    /**
+     * Queues any action on the session.
+     */
+    public synchronized <T> CompletableFuture<T> call(Function<? super WebDriver, T> action) {
+        CompletableFuture<T> next = tail
+                // Run after the previous call whatever its outcome; its failure belongs to its own future
+                .handle((result, error) -> null)
+                .thenApplyAsync(ignored -> action.apply(driver), VIRTUAL_THREADS);
+        tail = next;
+        return next;
+    }
+
+    public CompletableFuture<Void> run(Consumer<? super WebDriver> action) {
+        return call(session -> {
+            action.accept(session);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> get(String url) {
+        return run(session -> session.get(url));
+    }
+
+    public CompletableFuture<WebElement> findAsync(By locator) {
+        return call(session -> session.findElement(locator));
+    }
+
+    public CompletableFuture<List<WebElement>> findAllAsync(By locator) {
+        return call(session -> session.findElements(locator));
+    }
+
+    public CompletableFuture<String> titleAsync() {
+        return call(WebDriver::getTitle);
+    }
+
+    public CompletableFuture<String> currentUrlAsync() {
+        return call(WebDriver::getCurrentUrl);
+    }
+
+    public CompletableFuture<Void> clickAsync(By locator) {
+        return run(session -> session.findElement(locator).click());
+    }
+
+    public CompletableFuture<Void> sendKeysAsync(By locator, CharSequence... keys) {
+        return run(session -> session.findElement(locator).sendKeys(keys));
+    }
+
+    /**
+     * Waits for a condition (e.g. ReadyConditions.titleContains) with a {@link ReadyWait}, without blocking the caller.
+     */
+    public <V> CompletableFuture<V> untilAsync(Function<? super WebDriver, V> condition, Duration timeout) {
+        return call(session -> new ReadyWait(session, timeout).until(condition));
+    }
+
+    /**
+     * The underlying session, for synchronous use once the queued calls are done.
+     */
+    public WebDriver driver() {
+        return driver;
+    }
+
+    /**
+     * Waits for the queued calls; quits the browser if it was started by {@link #start}.
+     */
+    @Override
+    public void close() {
+        CompletableFuture<Void> done = run(session -> {
+            if (owned) {
+                session.quit();
+            }
+        });
+        done.join();
+    }
+}
@@ -0,0 +1,98 @@
+package com.una.selenium.tests.support.async;
+
+import com.una.selenium.tests.support.FakeDriver;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the ordering guarantees of AsyncDriver with fake sessions whose commands take 20 ms (no browser needed).
+ */
+public class AsyncDriverTest {
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    @Test
+    void serializesCallsOnOneSessionInSubmissionOrder() {
+        List<String> visited = new ArrayList<>();
+        AsyncDriver session = AsyncDriver.of(fakeDriver("s1", new AtomicInteger(), visited));
+
+        List<CompletableFuture<Void>> calls = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            calls.add(session.get("/page" + i));
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+
+        assertEquals(List.of("/page0", "/page1", "/page2", "/page3", "/page4", "/page5", "/page6", "/page7",
+                "/page8", "/page9"), visited);
+        assertEquals(1, maxRunning.get(), "Two commands of the same session must never overlap");
+    }
+
+    @Test
+    void runsDifferentSessionsInParallel() {
+        List<AsyncDriver> sessions = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            sessions.add(AsyncDriver.of(fakeDriver("s" + i, new AtomicInteger(), new ArrayList<>())));
+        }
+
+        long start = System.nanoTime();
+        List<CompletableFuture<String>> titles = sessions.stream().map(AsyncDriver::titleAsync).toList();
+        CompletableFuture.allOf(titles.toArray(CompletableFuture[]::new)).join();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals("title of s7", titles.get(7).join());
+        assertTrue(maxRunning.get() > 1, "Sessions should not wait for each other");
+        assertTrue(elapsedMillis < 30 * 20, "30 sessions ran one after the other: " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void failedCallDoesNotStopTheFollowingOnes() {
+        AtomicInteger perSession = new AtomicInteger();
+        AsyncDriver session = AsyncDriver.of(fakeDriver("s1", perSession, new ArrayList<>()));
+
+        CompletableFuture<Void> failing = session.get("/crash");
+        CompletableFuture<String> next = session.titleAsync();
+
+        CompletionException error = assertThrows(CompletionException.class, failing::join);
+        assertInstanceOf(WebDriverException.class, error.getCause());
+        assertEquals("title of s1", next.join());
+    }
+
+    // Fake session: get() and getTitle() take 20 ms and track how many commands are running at the same time
+    private WebDriver fakeDriver(String name, AtomicInteger sessionRunning, List<String> visited) {
+        return FakeDriver.driver().named(name)
+                .on("get", args -> command(sessionRunning, () -> {
+                    if (args[0].equals("/crash")) {
+                        throw new WebDriverException("tab crashed");
+                    }
+                    visited.add((String) args[0]);
+                    return null;
+                }))
+                .on("getTitle", args -> command(sessionRunning, () -> "title of " + name))
+                .build();
+    }
+
+    private Object command(AtomicInteger sessionRunning, Supplier<Object> result) throws InterruptedException {
+        if (sessionRunning.incrementAndGet() > 1) {
+            maxRunning.set(Integer.MAX_VALUE);
+        }
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(20);
+            return result.get();
+        } finally {
+            running.decrementAndGet();
+            sessionRunning.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.una.selenium.tests.support.devtools;
+
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * DevTools session of one tab, with commands and events by name and generic JSON mapping (so nothing depends on the
+ * selenium-devtools-vNNN classes of a particular Chrome version).
+ *
+ * The session is attached to the tab with the given window handle. Without a handle, DevTools attaches to any page
+ * target of the browser, which with {@link com.una.selenium.tests.support.driver.BrowserContexts} may be the tab of
+ * another test sharing the Chrome process.
+ */
+public interface TabDevTools {
+
+    void send(String method, Map<String, Object> params);
+
+    void listen(String event, Consumer<Map<String, Object>> handler);
+
+    /**
+     * Attaches the browser's DevTools connection to the tab; empty if the browser has no DevTools.
+     * A connection is attached once: later calls reuse the first tab.
+     */
+    static Optional<TabDevTools> attach(HasDevTools browser, String windowHandle) {
+        Optional<DevTools> maybeDevTools = browser.maybeGetDevTools();
+        if (maybeDevTools.isEmpty()) {
+            return Optional.empty();
+        }
+        DevTools devTools = maybeDevTools.get();
+        devTools.createSessionIfThereIsNotOne(windowHandle);
+        return Optional.of(new TabDevTools() {
+            @Override
+            public void send(String method, Map<String, Object> params) {
+                devTools.send(new Command<>(method, params));
+            }
+
+            @Override
+            public void listen(String event, Consumer<Map<String, Object>> handler) {
+                Function<JsonInput, Map<String, Object>> mapper = input -> input.read(Json.MAP_TYPE);
+                devTools.addListener(new Event<>(event, mapper), handler);
+            }
+        });
+    }
+}
@@ -0,0 +1,371 @@
+package com.una.selenium.tests.support.driver;
+
+import com.una.selenium.tests.support.report.RunReport;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.CapabilityType;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Runs several pooled sessions inside one Chrome process instead of one Chrome per session, for a much higher
+ * number of concurrent tests per GB of memory: the browser process, GPU process and network service are shared,
+ * only the tabs are per test.
+ *
+ * Each session is an isolated browser context (CDP Target.createBrowserContext, the same as an incognito profile:
+ * own cookies, storage and cache) with one tab, driven by its own chromedriver session attached to the shared Chrome
+ * through its debugger address, so the sessions of one process still run their commands in parallel.
+ * switchTo().newWindow() opens the new tab or window in the session's context, and getWindowHandles() only lists
+ * the context's tabs and popups, so the pool reset never touches another test's tab; quit() disposes the context.
+ * A Chrome process hosts at most selenium.browser.contexts sessions of one {@link BrowserPreset}; the next one
+ * starts another process. A Chrome process that stops answering (crashed, connection lost) gets no new sessions,
+ * and is quit once its last session is closed.
+ *
+ * -Dselenium.browser.contexts=N (default 1: one Chrome process per session, as before). The pool size still caps
+ * the concurrent sessions: raise -Dselenium.parallelism together with it.
+ */
+public final class BrowserContexts {
+
+    public static final String CONTEXTS_PROPERTY = "selenium.browser.contexts";
+
+    private final int perBrowser;
+    private final Function<ChromeOptions, WebDriver> starter;
+    private final Function<WebDriver, BrowserCdp> cdp;
+    private final Map<BrowserPreset, List<Host>> hosts = new EnumMap<>(BrowserPreset.class);
+
+    private final LongAdder browsersStarted = new LongAdder();
+    private final LongAdder contextsOpened = new LongAdder();
+    private final AtomicInteger maxContextsInOneBrowser = new AtomicInteger();
+
+    BrowserContexts(int perBrowser, Function<ChromeOptions, WebDriver> starter, Function<WebDriver, BrowserCdp> cdp) {
+        if (perBrowser < 1) {
+            throw new IllegalArgumentException("Contexts per browser must be positive");
+        }
+        this.perBrowser = perBrowser;
+        this.starter = starter;
+        this.cdp = cdp;
+    }
+
+    /**
+     * Maximum number of sessions in one Chrome process.
+     */
+    public static int perBrowser() {
+        return Math.max(1, Integer.getInteger(CONTEXTS_PROPERTY, 1));
+    }
+
+    public static boolean enabled() {
+        return perBrowser() > 1;
+    }
+
+    /**
+     * The instance used by the shared {@link DriverPool} when {@link #enabled}.
+     */
+    public static BrowserContexts shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Quits the shared Chrome processes, if any were started.
+     */
+    static void shutdownShared() {
+        if (enabled()) {
+            shared().shutdown();
+        }
+    }
+
+    /**
+     * A new session in its own browser context, in a running Chrome with the given preset that has room for it
+     * (starting one if none has).
+     */
+    public WebDriver open(BrowserPreset preset) {
+        Host host = reserve(preset);
+        try {
+            WebDriver session = host.open();
+            contextsOpened.increment();
+            return session;
+        } catch (RuntimeException e) {
+            if (!host.responds()) {
+                host.retire();
+            }
+            host.free();
+            throw e;
+        }
+    }
+
+    /**
+     * Quits every Chrome process; contexts still open are closed with them.
+     */
+    public synchronized void shutdown() {
+        for (List<Host> running : hosts.values()) {
+            running.forEach(Host::quit);
+        }
+        hosts.clear();
+    }
+
+    String report() {
+        long browsers = browsersStarted.sum();
+        long contexts = contextsOpened.sum();
+        return String.format("contexts per browser=%d%n"
+                        + "browsers started=%d, contexts opened=%d (%.1f sessions per Chrome process), max open in one browser=%d",
+                perBrowser, browsers, contexts, browsers == 0 ? 0.0 : (double) contexts / browsers, maxContextsInOneBrowser.get());
+    }
+
+    // Takes a context slot in a running browser of the preset, or starts a new browser
+    private synchronized Host reserve(BrowserPreset preset) {
+        List<Host> running = hosts.computeIfAbsent(preset, key -> new ArrayList<>());
+        Host host = running.stream().filter(candidate -> candidate.open < perBrowser).findFirst().orElse(null);
+        if (host == null) {
+            host = new Host(preset, starter.apply(ChromeOptionsFactory.create(preset)));
+            browsersStarted.increment();
+            running.add(host);
+        }
+        host.open++;
+        maxContextsInOneBrowser.accumulateAndGet(host.open, Math::max);
+        return host;
+    }
+
+    /**
+     * Browser-level CDP commands of one Chrome process (not tied to a tab).
+     */
+    @FunctionalInterface
+    interface BrowserCdp {
+        Map<String, Object> send(String method, Map<String, Object> params);
+
+        static BrowserCdp of(WebDriver driver) {
+            DevTools devTools = ((HasDevTools) driver).maybeGetDevTools()
+                    .orElseThrow(() -> new WebDriverException("Browser contexts need a DevTools connection"));
+            // Without createSession() the commands go to the browser target
+            return (method, params) -> devTools.send(new Command<>(method, params, input -> input.read(Json.MAP_TYPE)));
+        }
+    }
+
+    // One Chrome process: the session that started it, and the number of contexts open in it
+    private final class Host {
+
+        private final BrowserPreset preset;
+        private final WebDriver owner;
+        private final BrowserCdp browser;
+        private final String debuggerAddress;
+        private int open;
+        private volatile boolean alive = true;
+        private boolean ownerQuit;
+
+        Host(BrowserPreset preset, WebDriver owner) {
+            this.preset = preset;
+            this.owner = owner;
+            try {
+                this.browser = cdp.apply(owner);
+                Object chromeOptions = ((HasCapabilities) owner).getCapabilities().getCapability(ChromeOptions.CAPABILITY);
+                if (!(chromeOptions instanceof Map<?, ?> map) || map.get("debuggerAddress") == null) {
+                    throw new WebDriverException("chromedriver did not report the debugger address of the browser");
+                }
+                this.debuggerAddress = String.valueOf(map.get("debuggerAddress"));
+            } catch (RuntimeException e) {
+                owner.quit();
+                throw e;
+            }
+        }
+
+        WebDriver open() {
+            String contextId = (String) browser.send("Target.createBrowserContext", Map.of("disposeOnDetach", false))
+                    .get("browserContextId");
+            try {
+                String targetId = (String) browser.send("Target.createTarget",
+                        Map.of("url", "about:blank", "browserContextId", contextId)).get("targetId");
+                ChromeOptions attach = new ChromeOptions();
+                attach.setExperimentalOption("debuggerAddress", debuggerAddress);
+                Object pageLoadStrategy = ChromeOptionsFactory.create(preset).getCapability(CapabilityType.PAGE_LOAD_STRATEGY);
+                if (pageLoadStrategy != null) {
+                    attach.setCapability(CapabilityType.PAGE_LOAD_STRATEGY, pageLoadStrategy);
+                }
+                WebDriver session = starter.apply(attach);
+                try {
+                    // Window handles are the CDP target ids
+                    String home = session.getWindowHandles().stream().filter(handle -> handle.endsWith(targetId)).findFirst()
+                            .orElseThrow(() -> new WebDriverException("New tab " + targetId + " not visible to chromedriver"));
+                    session.switchTo().window(home);
+                    return new ContextSession(this, session, contextId, home).decorate(session);
+                } catch (RuntimeException e) {
+                    session.quit();
+                    throw e;
+                }
+            } catch (RuntimeException e) {
+                dispose(contextId);
+                throw e;
+            }
+        }
+
+        // A new tab (or window) in the context; returns its target id
+        String newTarget(String contextId, WindowType type) {
+            return (String) browser.send("Target.createTarget", Map.of("url", "about:blank", "browserContextId", contextId,
+                    "newWindow", type == WindowType.WINDOW)).get("targetId");
+        }
+
+        // Target ids of the tabs and popups of a context
+        Set<String> targetsOf(String contextId) {
+            Set<String> targets = new LinkedHashSet<>();
+            Object infos = browser.send("Target.getTargets", Map.of()).get("targetInfos");
+            if (infos instanceof List<?> list) {
+                for (Object info : list) {
+                    if (info instanceof Map<?, ?> target && contextId.equals(target.get("browserContextId"))) {
+                        targets.add(String.valueOf(target.get("targetId")));
+                    }
+                }
+            }
+            return targets;
+        }
+
+        void close(WebDriver session, String contextId) {
+            try {
+                // An attached session only detaches: the browser keeps running for the other contexts
+                session.quit();
+            } finally {
+                dispose(contextId);
+                free();
+            }
+        }
+
+        private void dispose(String contextId) {
+            try {
+                browser.send("Target.disposeBrowserContext", Map.of("browserContextId", contextId));
+            } catch (RuntimeException e) {
+                System.err.println("Could not dispose browser context " + contextId + ": " + e.getMessage());
+            }
+        }
+
+        void free() {
+            boolean unused;
+            synchronized (BrowserContexts.this) {
+                open--;
+                unused = !alive && open == 0;
+            }
+            if (unused) {
+                quit();
+            }
+        }
+
+        boolean responds() {
+            try {
+                browser.send("Browser.getVersion", Map.of());
+                return true;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+
+        // No new sessions in this process; the ones still open keep it until they are closed
+        void retire() {
+            alive = false;
+            synchronized (BrowserContexts.this) {
+                List<Host> running = hosts.get(preset);
+                if (running != null) {
+                    running.remove(this);
+                }
+            }
+            System.err.println("Shared " + preset.id() + " browser at " + debuggerAddress + " stopped answering, retired");
+        }
+
+        void quit() {
+            alive = false;
+            synchronized (this) {
+                if (ownerQuit) {
+                    return;
+                }
+                ownerQuit = true;
+            }
+            try {
+                owner.quit();
+            } catch (WebDriverException e) {
+                System.err.println("Error quitting shared browser: " + e.getMessage());
+            }
+        }
+    }
+
+    // The driver tests see: the attached session, limited to its own context
+    private static final class ContextSession extends WebDriverDecorator<WebDriver> {
+
+        private static final Method SWITCH_TO_WINDOW;
+
+        static {
+            try {
+                SWITCH_TO_WINDOW = WebDriver.TargetLocator.class.getMethod("window", String.class);
+            } catch (NoSuchMethodException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Host host;
+        private final WebDriver session;
+        private final String contextId;
+        private final String home;
+
+        ContextSession(Host host, WebDriver session, String contextId, String home) {
+            this.host = host;
+            this.session = session;
+            this.contextId = contextId;
+            this.home = home;
+        }
+
+        @Override
+        public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+            if (target.getOriginal() == session && method.getName().equals("quit")) {
+                host.close(session, contextId);
+                return null;
+            }
+            if (target.getOriginal() == session && method.getName().equals("getWindowHandles")) {
+                return ownWindowHandles();
+            }
+            if (target.getOriginal() instanceof WebDriver.TargetLocator && method.getName().equals("newWindow")) {
+                // chromedriver would open it in the default context, shared by every session of the process
+                String targetId = host.newTarget(contextId, (WindowType) args[0]);
+                String handle = session.getWindowHandles().stream().filter(candidate -> candidate.endsWith(targetId)).findFirst()
+                        .orElseThrow(() -> new WebDriverException("New window " + targetId + " not visible to chromedriver"));
+                return super.call(target, SWITCH_TO_WINDOW, new Object[]{handle});
+            }
+            return super.call(target, method, args);
+        }
+
+        // The context's first tab first, as the pool reset keeps the first handle
+        private Set<String> ownWindowHandles() {
+            Set<String> all = session.getWindowHandles();
+            Set<String> targets = host.targetsOf(contextId);
+            Set<String> own = new LinkedHashSet<>();
+            if (all.contains(home)) {
+                own.add(home);
+            }
+            for (String handle : all) {
+                if (targets.stream().anyMatch(handle::endsWith)) {
+                    own.add(handle);
+                }
+            }
+            return own;
+        }
+    }
+
+    private static final class Holder {
+        static final BrowserContexts INSTANCE = new BrowserContexts(perBrowser(), SharedChromeDriverService::newSession, BrowserCdp::of);
+
+        static {
+            RunReport.register("Browser contexts", INSTANCE::report);
+            Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::shutdown, "browser-contexts-shutdown"));
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.una.selenium.tests.support.driver;
+
+import com.una.selenium.tests.support.FakeDriver;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Context bookkeeping of BrowserContexts against fake Chrome processes that only know targets and contexts.
+ */
+public class BrowserContextsTest {
+
+    private final List<FakeChrome> browsers = new ArrayList<>();
+    private final List<String> quit = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void startsAnotherBrowserOnlyWhenOneIsFull() {
+        BrowserContexts contexts = new BrowserContexts(2, this::start, this::cdpOf);
+
+        WebDriver first = contexts.open(BrowserPreset.CI);
+        WebDriver second = contexts.open(BrowserPreset.CI);
+        WebDriver third = contexts.open(BrowserPreset.CI);
+
+        assertEquals(2, browsers.size());
+        assertEquals(2, browsers.get(0).contexts.size(), "First browser hosts two contexts");
+        assertNotEquals(first.getWindowHandle(), second.getWindowHandle());
+        assertNotNull(third.getWindowHandle());
+        assertTrue(contexts.report().contains("browsers started=2, contexts opened=3 (1.5 sessions per Chrome process)"),
+                contexts.report());
+    }
+
+    @Test
+    void sessionOnlySeesItsOwnWindows() {
+        BrowserContexts contexts = new BrowserContexts(4, this::start, this::cdpOf);
+        WebDriver alice = contexts.open(BrowserPreset.CI);
+        WebDriver bob = contexts.open(BrowserPreset.CI);
+        String bobHome = bob.getWindowHandle();
+
+        bob.switchTo().newWindow(WindowType.TAB);
+
+        assertEquals(Set.of(alice.getWindowHandle()), alice.getWindowHandles());
+        List<String> bobWindows = new ArrayList<>(bob.getWindowHandles());
+        assertEquals(2, bobWindows.size());
+        assertEquals(bobHome, bobWindows.get(0), "The context's first tab comes first");
+        FakeChrome chrome = browsers.get(0);
+        assertEquals(chrome.targets.get(bobHome), chrome.targets.get(bob.getWindowHandle()),
+                "The new tab belongs to bob's context, not to the default one");
+    }
+
+    @Test
+    void crashedBrowserGetsNoNewSessions() {
+        BrowserContexts contexts = new BrowserContexts(4, this::start, this::cdpOf);
+        WebDriver survivor = contexts.open(BrowserPreset.CI);
+
+        browsers.get(0).crashed = true;
+        assertThrows(WebDriverException.class, () -> contexts.open(BrowserPreset.CI));
+        assertNotNull(contexts.open(BrowserPreset.CI).getWindowHandle());
+        assertEquals(2, browsers.size(), "A new browser replaces the crashed one");
+
+        assertFalse(quit.contains("browser"), "The crashed browser is kept while a session still uses it");
+        survivor.quit();
+        assertEquals(1, quit.stream().filter("browser"::equals).count());
+    }
+
+    @Test
+    void quitDisposesTheContextAndFreesItsSlot() {
+        BrowserContexts contexts = new BrowserContexts(1, this::start, this::cdpOf);
+
+        contexts.open(BrowserPreset.CI).quit();
+        assertTrue(browsers.get(0).contexts.isEmpty(), "Context should be disposed");
+        assertTrue(quit.contains("attached"), "The attached session should be ended");
+
+        contexts.open(BrowserPreset.CI);
+        assertEquals(1, browsers.size(), "The freed slot is reused");
+        contexts.open(BrowserPreset.FAST_HEADLESS);
+        assertEquals(2, browsers.size(), "Presets never share a browser");
+
+        contexts.shutdown();
+        assertEquals(2, quit.stream().filter("browser"::equals).count());
+    }
+
+    // A new browser for plain options, an attached session for options with a debuggerAddress
+    private WebDriver start(ChromeOptions options) {
+        Map<?, ?> chromeOptions = (Map<?, ?>) options.asMap().get(ChromeOptions.CAPABILITY);
+        Object address = chromeOptions == null ? null : chromeOptions.get("debuggerAddress");
+        if (address == null) {
+            FakeChrome chrome = new FakeChrome("127.0.0.1:" + (9000 + browsers.size()));
+            browsers.add(chrome);
+            return chrome.session("browser", chrome.createTarget(""));
+        }
+        FakeChrome chrome = browsers.stream().filter(browser -> browser.address.equals(address)).findFirst().orElseThrow();
+        return chrome.session("attached", chrome.targets.keySet().iterator().next());
+    }
+
+    private BrowserContexts.BrowserCdp cdpOf(WebDriver owner) {
+        String address = (String) ((Map<?, ?>) ((HasCapabilities) owner).getCapabilities()
+                .getCapability(ChromeOptions.CAPABILITY)).get("debuggerAddress");
+        FakeChrome chrome = browsers.stream().filter(browser -> browser.address.equals(address)).findFirst().orElseThrow();
+        return chrome::send;
+    }
+
+    private final class FakeChrome {
+
+        final String address;
+        final Set<String> contexts = new LinkedHashSet<>();
+        // Target id -> browser context id ("" for the default context)
+        final Map<String, String> targets = new LinkedHashMap<>();
+        boolean crashed;
+
+        FakeChrome(String address) {
+            this.address = address;
+        }
+
+        String createTarget(String contextId) {
+            String id = "T" + targets.size() + "-" + address;
+            targets.put(id, contextId);
+            return id;
+        }
+
+        synchronized Map<String, Object> send(String method, Map<String, Object> params) {
+            if (crashed) {
+                throw new WebDriverException("Browser at " + address + " is gone");
+            }
+            switch (method) {
+                case "Target.createBrowserContext" -> {
+                    String id = "C" + contexts.size() + "-" + address;
+                    contexts.add(id);
+                    return Map.of("browserContextId", id);
+                }
+                case "Target.createTarget" -> {
+                    return Map.of("targetId", createTarget((String) params.get("browserContextId")));
+                }
+                case "Browser.getVersion" -> {
+                    return Map.of("product", "Chrome/fake");
+                }
+                case "Target.getTargets" -> {
+                    List<Map<String, Object>> infos = new ArrayList<>();
+                    targets.forEach((id, context) -> infos.add(Map.of("targetId", id, "browserContextId", context)));
+                    return Map.of("targetInfos", infos);
+                }
+                case "Target.disposeBrowserContext" -> {
+                    Object context = params.get("browserContextId");
+                    contexts.remove(context);
+                    targets.values().removeIf(context::equals);
+                    return Map.of();
+                }
+                default -> throw new IllegalArgumentException(method);
+            }
+        }
+
+        // Window handles are target ids, as in chromedriver
+        WebDriver session(String kind, String firstWindow) {
+            String[] current = {firstWindow};
+            WebDriver[] self = new WebDriver[1];
+            WebDriver.TargetLocator locator = FakeDriver.of(WebDriver.TargetLocator.class)
+                    .on("window", args -> {
+                        current[0] = (String) args[0];
+                        return self[0];
+                    })
+                    .build();
+            self[0] = FakeDriver.driver().implementing(HasCapabilities.class)
+                    .on("getWindowHandles", args -> new LinkedHashSet<>(targets.keySet()))
+                    .on("getWindowHandle", args -> current[0])
+                    .on("switchTo", args -> locator)
+                    .on("getCapabilities", args -> new ImmutableCapabilities(ChromeOptions.CAPABILITY, Map.of("debuggerAddress", address)))
+                    .on("quit", args -> quit.add(kind))
+                    .build();
+            return self[0];
+        }
+    }
+}
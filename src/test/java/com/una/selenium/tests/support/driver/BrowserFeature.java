@@ -0,0 +1,14 @@
+package com.una.selenium.tests.support.driver;
+
+/**
+ * What a test needs from its browser, declared with {@link BrowserFeatures}; decides the {@link BrowserTier}.
+ * - JAVASCRIPT: scripts run on the page (dynamic content, executeScript, locator chains, batched queries)
+ * - SCREENSHOTS: TakesScreenshot (e.g. captured on failure)
+ * - RENDERING: real layout and visibility (isDisplayed, sizes, clicks on rendered elements)
+ */
+public enum BrowserFeature {
+
+    JAVASCRIPT,
+    SCREENSHOTS,
+    RENDERING
+}
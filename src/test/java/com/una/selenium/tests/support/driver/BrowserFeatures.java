@@ -0,0 +1,21 @@
+package com.una.selenium.tests.support.driver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares everything the test needs from its browser, so {@link DriverPoolExtension} can give it the lightest
+ * {@link BrowserTier} that has it: {@code @BrowserFeatures({})} (only loads pages and reads them) runs in-process
+ * on HtmlUnit, anything else on Chrome. Tests without the annotation always get Chrome.
+ * A method annotation wins over the class annotation.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface BrowserFeatures {
+
+    BrowserFeature[] value();
+}
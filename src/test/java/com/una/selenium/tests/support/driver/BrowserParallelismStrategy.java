@@ -0,0 +1,70 @@
+package com.una.selenium.tests.support.driver;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * JUnit parallel execution strategy sized by the number of browsers we allow at the same time.
+ * Configured in junit-platform.properties; the same value caps the {@link DriverPool},
+ * so JUnit never runs more tests concurrently than there are browser sessions for them.
+ *
+ * -Dselenium.parallelism=N (default: number of available processors)
+ */
+public class BrowserParallelismStrategy implements ParallelExecutionConfigurationStrategy {
+
+    public static final String PARALLELISM_PROPERTY = "selenium.parallelism";
+
+    /**
+     * Maximum number of browsers (and therefore tests) running at the same time.
+     */
+    public static int browserParallelism() {
+        int parallelism = Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors());
+        return Math.max(1, parallelism);
+    }
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+        int parallelism = configurationParameters.get(PARALLELISM_PROPERTY, Integer::parseInt)
+                .map(value -> Math.max(1, value))
+                .orElseGet(BrowserParallelismStrategy::browserParallelism);
+        return new Configuration(parallelism);
+    }
+
+    // Same shape as JUnit's "fixed" strategy: extra threads may only be created to compensate for joins
+    private record Configuration(int parallelism) implements ParallelExecutionConfiguration {
+
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMinimumRunnable() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMaxPoolSize() {
+            return parallelism + 256;
+        }
+
+        @Override
+        public int getCorePoolSize() {
+            return parallelism;
+        }
+
+        @Override
+        public int getKeepAliveSeconds() {
+            return 30;
+        }
+
+        @Override
+        public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+            return pool -> true;
+        }
+    }
+}
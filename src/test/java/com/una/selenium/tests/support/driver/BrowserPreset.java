@@ -0,0 +1,46 @@
+package com.una.selenium.tests.support.driver;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Named Chrome configurations (see {@link ChromeOptionsFactory} for the exact options).
+ * - debug-headed: visible, maximized browser; the original setup of the exercises (default)
+ * - ci: headless with a full HD viewport, for runners without a display
+ * - fast-headless: headless, eager page loads, no images/extensions/background networking, small viewport
+ *
+ * Chosen per run with -Dselenium.preset=<id> or per class/method with {@link BrowserProfile}.
+ */
+public enum BrowserPreset {
+
+    DEBUG_HEADED("debug-headed"),
+    CI("ci"),
+    FAST_HEADLESS("fast-headless");
+
+    public static final String PRESET_PROPERTY = "selenium.preset";
+
+    private final String id;
+
+    BrowserPreset(String id) {
+        this.id = id;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public static BrowserPreset fromId(String id) {
+        return Arrays.stream(values())
+                .filter(preset -> preset.id.equalsIgnoreCase(id.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown browser preset '" + id + "', expected one of "
+                        + Arrays.stream(values()).map(BrowserPreset::id).collect(Collectors.joining(", "))));
+    }
+
+    /**
+     * The preset chosen for the whole run (-Dselenium.preset), debug-headed if not set.
+     */
+    public static BrowserPreset forRun() {
+        return fromId(System.getProperty(PRESET_PROPERTY, DEBUG_HEADED.id));
+    }
+}
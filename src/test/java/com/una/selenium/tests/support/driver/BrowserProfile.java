@@ -0,0 +1,19 @@
+package com.una.selenium.tests.support.driver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects the {@link BrowserPreset} for the drivers injected by {@link DriverPoolExtension}.
+ * A method annotation wins over the class annotation, which wins over -Dselenium.preset.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface BrowserProfile {
+
+    BrowserPreset value();
+}
@@ -0,0 +1,103 @@
+package com.una.selenium.tests.support.driver;
+
+import com.una.selenium.tests.support.report.RunReport;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Browser backends, from the lightest:
+ * - htmlunit: HtmlUnit inside the test JVM, without JavaScript; a new session per test costs milliseconds, so it is
+ *   not pooled
+ * - chrome: pooled Chrome sessions ({@link DriverPool}) with every {@link BrowserFeature}
+ *
+ * A test runs on the first tier that has every feature it declares with {@link BrowserFeatures}; tests that declare
+ * nothing run on Chrome. -Dselenium.tier=chrome runs everything on Chrome (e.g. to compare results).
+ * The tier is published as the "browser.tier" report entry of each test, and the "Browser tiers" report section
+ * compares how long each tier took to hand out a session.
+ */
+public enum BrowserTier {
+
+    HTMLUNIT("htmlunit", EnumSet.noneOf(BrowserFeature.class)),
+    CHROME("chrome", EnumSet.allOf(BrowserFeature.class));
+
+    public static final String TIER_PROPERTY = "selenium.tier";
+
+    private static final Map<BrowserTier, LongAdder[]> LEASES = new EnumMap<>(BrowserTier.class);
+
+    static {
+        for (BrowserTier tier : values()) {
+            LEASES.put(tier, new LongAdder[]{new LongAdder(), new LongAdder()});
+        }
+        RunReport.register("Browser tiers", BrowserTier::report);
+    }
+
+    private final String id;
+    private final Set<BrowserFeature> features;
+
+    BrowserTier(String id, Set<BrowserFeature> features) {
+        this.id = id;
+        this.features = features;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public boolean provides(Set<BrowserFeature> needed) {
+        return features.containsAll(needed);
+    }
+
+    /**
+     * Tier for the test: the lightest one with the features declared on the method, else on the class;
+     * Chrome if nothing is declared or -Dselenium.tier=chrome.
+     */
+    static BrowserTier select(Optional<Method> testMethod, Optional<Class<?>> testClass) {
+        if (CHROME.id.equalsIgnoreCase(System.getProperty(TIER_PROPERTY, "auto").trim())) {
+            return CHROME;
+        }
+        return AnnotationSupport.findAnnotation(testMethod, BrowserFeatures.class)
+                .or(() -> AnnotationSupport.findAnnotation(testClass, BrowserFeatures.class))
+                .map(declared -> lightestWith(declared.value()))
+                .orElse(CHROME);
+    }
+
+    static BrowserTier lightestWith(BrowserFeature... needed) {
+        Set<BrowserFeature> set = needed.length == 0 ? EnumSet.noneOf(BrowserFeature.class) : EnumSet.copyOf(Arrays.asList(needed));
+        return Arrays.stream(values()).filter(tier -> tier.provides(set)).findFirst().orElse(CHROME);
+    }
+
+    /**
+     * A new session of the in-process tier (JavaScript off: the tier promises none).
+     */
+    static WebDriver newInProcessSession() {
+        return new HtmlUnitDriver(false);
+    }
+
+    /**
+     * Records how long the tier took to hand a session to a test (start-up, or pool wait and reuse).
+     */
+    static void leased(BrowserTier tier, long nanos) {
+        LongAdder[] counters = LEASES.get(tier);
+        counters[0].increment();
+        counters[1].add(nanos);
+    }
+
+    private static String report() {
+        StringBuilder out = new StringBuilder(String.format("%-10s %6s %16s%n", "tier", "tests", "avg session ms"));
+        LEASES.forEach((tier, counters) -> {
+            long count = counters[0].sum();
+            out.append(String.format("%-10s %6d %16.1f%n", tier.id, count, count == 0 ? 0.0 : counters[1].sum() / 1_000_000.0 / count));
+        });
+        return out.toString().stripTrailing();
+    }
+}
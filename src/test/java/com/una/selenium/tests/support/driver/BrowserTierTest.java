@@ -0,0 +1,60 @@
+package com.una.selenium.tests.support.driver;
+
+import com.una.selenium.tests.support.forensics.SessionRecorder;
+import com.una.selenium.tests.support.metrics.CommandLatency;
+import com.una.selenium.tests.support.network.RequestBlocker;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tier selection from the declared browser features (no browser needed).
+ */
+public class BrowserTierTest {
+
+    @Test
+    void lightestTierWithEveryDeclaredFeature() {
+        assertEquals(BrowserTier.HTMLUNIT, BrowserTier.lightestWith());
+        assertEquals(BrowserTier.CHROME, BrowserTier.lightestWith(BrowserFeature.SCREENSHOTS));
+        assertEquals(BrowserTier.CHROME, BrowserTier.lightestWith(BrowserFeature.JAVASCRIPT, BrowserFeature.RENDERING));
+    }
+
+    @Test
+    void methodDeclarationWinsAndUndeclaredTestsGetChrome() throws NoSuchMethodException {
+        Optional<Class<?>> lightweight = Optional.of(Lightweight.class);
+
+        assertEquals(BrowserTier.HTMLUNIT, BrowserTier.select(Optional.of(Lightweight.class.getDeclaredMethod("readsTitle")), lightweight));
+        assertEquals(BrowserTier.CHROME, BrowserTier.select(Optional.of(Lightweight.class.getDeclaredMethod("takesScreenshot")), lightweight));
+        assertEquals(BrowserTier.CHROME, BrowserTier.select(Optional.of(Undeclared.class.getDeclaredMethod("anything")), Optional.of(Undeclared.class)));
+    }
+
+    @Test
+    void inProcessSessionsGetNoDevToolsListeners() {
+        WebDriver driver = SessionInstrumentation.instrument(BrowserTier.newInProcessSession(), BrowserTier.HTMLUNIT);
+        try {
+            assertTrue(SessionRecorder.of(driver).isEmpty());
+            assertTrue(RequestBlocker.of(driver).isEmpty());
+            assertTrue(CommandLatency.of(driver).isPresent(), "Command latency is kept, in the htmlunit histograms");
+        } finally {
+            driver.quit();
+        }
+    }
+
+    @BrowserFeatures({})
+    static class Lightweight {
+        void readsTitle() {
+        }
+
+        @BrowserFeatures(BrowserFeature.SCREENSHOTS)
+        void takesScreenshot() {
+        }
+    }
+
+    static class Undeclared {
+        void anything() {
+        }
+    }
+}
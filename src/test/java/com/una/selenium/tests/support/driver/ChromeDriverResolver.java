@@ -0,0 +1,220 @@
+package com.una.selenium.tests.support.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Finds the chromedriver binary matching the installed Chrome, once per JVM and without network access.
+ * Replaces calling WebDriverManager.chromedriver().setup() in every @BeforeEach.
+ *
+ * Lookup order:
+ * 1. -Dwebdriver.chrome.driver=/path/to/chromedriver (used as is)
+ * 2. the local driver cache (-Dselenium.driver.cache, default ~/.cache/selenium, the directory shared by
+ *    Selenium Manager and WebDriverManager): exact Chrome version first, then the newest driver with the same major
+ * 3. only with -Dselenium.driver.online=true: WebDriverManager downloads the driver into that cache
+ *
+ * The installed Chrome version is read from the binary (-Dselenium.chrome.binary, or google-chrome/chromium on the PATH)
+ * or can be forced with -Dselenium.chrome.version.
+ */
+public final class ChromeDriverResolver {
+
+    private static final Pattern VERSION = Pattern.compile("(\\d+)\\.\\d+\\.\\d+\\.\\d+");
+
+    // Memoized outcome (success or failure), so the lookup never runs twice in the same JVM
+    private static Resolution resolution;
+    private static RuntimeException failure;
+
+    private ChromeDriverResolver() {
+    }
+
+    /**
+     * Result of the lookup; computed on first call and memoized for the JVM lifetime.
+     */
+    public record Resolution(String chromeVersion, Path driverPath, long resolveNanos) {
+
+        @Override
+        public String toString() {
+            return String.format("chrome=%s, chromedriver=%s (resolved in %.1f ms)",
+                    chromeVersion, driverPath, resolveNanos / 1_000_000.0);
+        }
+    }
+
+    public static synchronized Resolution resolve() {
+        if (resolution == null && failure == null) {
+            try {
+                resolution = compute();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw new IllegalStateException(failure.getMessage(), failure);
+        }
+        return resolution;
+    }
+
+    static Resolution compute() {
+        long start = System.nanoTime();
+        String chromeVersion = detectChromeVersion().orElse("unknown");
+
+        String explicit = System.getProperty("webdriver.chrome.driver");
+        if (explicit != null) {
+            return new Resolution(chromeVersion, Paths.get(explicit), System.nanoTime() - start);
+        }
+
+        Path cache = cacheDirectory();
+        Optional<Path> cached = findInCache(cache, chromeVersion);
+        if (cached.isEmpty() && Boolean.getBoolean("selenium.driver.online")) {
+            // Explicit opt-in: populate the shared cache once, later runs stay offline
+            WebDriverManager manager = WebDriverManager.chromedriver().cachePath(cache.toString());
+            if (!"unknown".equals(chromeVersion)) {
+                manager.browserVersion(major(chromeVersion));
+            }
+            manager.setup();
+            cached = Optional.ofNullable(manager.getDownloadedDriverPath()).map(Paths::get);
+        }
+        Path driver = cached.orElseThrow(() -> new IllegalStateException(
+                "No chromedriver for Chrome " + chromeVersion + " found in " + cache
+                        + ". Copy it there, set -Dwebdriver.chrome.driver, or run once with -Dselenium.driver.online=true."));
+        return new Resolution(chromeVersion, driver, System.nanoTime() - start);
+    }
+
+    static Path cacheDirectory() {
+        String configured = System.getProperty("selenium.driver.cache");
+        return configured != null
+                ? Paths.get(configured)
+                : Paths.get(System.getProperty("user.home"), ".cache", "selenium");
+    }
+
+    /**
+     * Looks for <cache>/chromedriver/<platform>/<version>/chromedriver[.exe], preferring the exact Chrome version.
+     */
+    static Optional<Path> findInCache(Path cache, String chromeVersion) {
+        Path root = cache.resolve("chromedriver");
+        if (!Files.isDirectory(root)) {
+            return Optional.empty();
+        }
+        String executable = isWindows() ? "chromedriver.exe" : "chromedriver";
+        List<Path> candidates = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root, 4)) {
+            files.filter(path -> path.getFileName().toString().equals(executable))
+                    .filter(path -> Files.isRegularFile(path) && Files.isExecutable(path))
+                    .forEach(candidates::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not scan driver cache " + root, e);
+        }
+        if ("unknown".equals(chromeVersion)) {
+            return candidates.stream().max(Comparator.comparing(ChromeDriverResolver::versionKey));
+        }
+        Optional<Path> exact = candidates.stream()
+                .filter(path -> chromeVersion.equals(versionOf(path)))
+                .findFirst();
+        if (exact.isPresent()) {
+            return exact;
+        }
+        // chromedriver is compatible with every Chrome build of the same major version
+        String major = major(chromeVersion);
+        return candidates.stream()
+                .filter(path -> major.equals(major(versionOf(path))))
+                .max(Comparator.comparing(ChromeDriverResolver::versionKey));
+    }
+
+    static Optional<String> detectChromeVersion() {
+        String forced = System.getProperty("selenium.chrome.version");
+        if (forced != null) {
+            return Optional.of(forced);
+        }
+        for (List<String> command : versionCommands()) {
+            Optional<String> version = run(command).flatMap(ChromeDriverResolver::parseVersion);
+            if (version.isPresent()) {
+                return version;
+            }
+        }
+        return Optional.empty();
+    }
+
+    static Optional<String> parseVersion(String text) {
+        Matcher matcher = VERSION.matcher(text);
+        return matcher.find() ? Optional.of(matcher.group()) : Optional.empty();
+    }
+
+    private static List<List<String>> versionCommands() {
+        List<List<String>> commands = new ArrayList<>();
+        String binary = System.getProperty("selenium.chrome.binary");
+        if (binary != null) {
+            commands.add(List.of(binary, "--version"));
+        }
+        if (isWindows()) {
+            commands.add(List.of("reg", "query", "HKEY_CURRENT_USER\\Software\\Google\\Chrome\\BLBeacon", "/v", "version"));
+        } else {
+            commands.add(List.of("/Applications/Google Chrome.app/Contents/MacOS/Google Chrome", "--version"));
+            for (String name : List.of("google-chrome", "google-chrome-stable", "chromium", "chromium-browser")) {
+                commands.add(List.of(name, "--version"));
+            }
+        }
+        return commands;
+    }
+
+    private static Optional<String> run(List<String> command) {
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return Optional.empty();
+            }
+            return process.exitValue() == 0 ? Optional.of(output) : Optional.empty();
+        } catch (IOException e) {
+            // Binary not installed at this location
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    // The cache layout stores each driver in a directory named after its version
+    private static String versionOf(Path driver) {
+        Path parent = driver.getParent();
+        while (parent != null && parent.getFileName() != null) {
+            Optional<String> version = parseVersion(parent.getFileName().toString());
+            if (version.isPresent()) {
+                return version.get();
+            }
+            parent = parent.getParent();
+        }
+        return "0.0.0.0";
+    }
+
+    private static String versionKey(Path driver) {
+        StringBuilder key = new StringBuilder();
+        for (String part : versionOf(driver).split("\\.")) {
+            key.append(String.format("%06d", Integer.parseInt(part)));
+        }
+        return key.toString();
+    }
+
+    private static String major(String version) {
+        int dot = version.indexOf('.');
+        return dot < 0 ? version : version.substring(0, dot);
+    }
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name").toLowerCase(Locale.ROOT).contains("win");
+    }
+}
@@ -0,0 +1,55 @@
+package com.una.selenium.tests.support.driver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the offline chromedriver lookup in the local driver cache.
+ */
+public class ChromeDriverResolverTest {
+
+    @TempDir
+    Path cache;
+
+    @Test
+    void parsesVersionFromChromeOutput() {
+        assertEquals(Optional.of("126.0.6478.126"),
+                ChromeDriverResolver.parseVersion("Google Chrome 126.0.6478.126 \n"));
+        assertEquals(Optional.of("125.0.6422.141"),
+                ChromeDriverResolver.parseVersion("    version    REG_SZ    125.0.6422.141"));
+        assertTrue(ChromeDriverResolver.parseVersion("not installed").isEmpty());
+    }
+
+    @Test
+    void prefersExactVersionThenNewestSameMajor() throws IOException {
+        Path exact = cachedDriver("126.0.6478.55");
+        Path newest = cachedDriver("126.0.6478.126");
+        cachedDriver("125.0.6422.141");
+
+        assertEquals(Optional.of(exact), ChromeDriverResolver.findInCache(cache, "126.0.6478.55"));
+        assertEquals(Optional.of(newest), ChromeDriverResolver.findInCache(cache, "126.0.6478.61"));
+        assertTrue(ChromeDriverResolver.findInCache(cache, "127.0.6533.72").isEmpty(),
+                "A driver of another major version must never be picked");
+    }
+
+    @Test
+    void emptyCacheResolvesNothing() {
+        assertTrue(ChromeDriverResolver.findInCache(cache, "126.0.6478.126").isEmpty());
+    }
+
+    private Path cachedDriver(String version) throws IOException {
+        String executable = System.getProperty("os.name").toLowerCase().contains("win") ? "chromedriver.exe" : "chromedriver";
+        Path driver = cache.resolve("chromedriver").resolve("linux64").resolve(version).resolve(executable);
+        Files.createDirectories(driver.getParent());
+        Files.createFile(driver);
+        driver.toFile().setExecutable(true);
+        return driver;
+    }
+}
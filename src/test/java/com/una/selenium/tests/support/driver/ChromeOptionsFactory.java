@@ -0,0 +1,55 @@
+package com.una.selenium.tests.support.driver;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.Map;
+
+/**
+ * Single place where ChromeOptions are built, one configuration per {@link BrowserPreset}.
+ */
+public final class ChromeOptionsFactory {
+
+    private ChromeOptionsFactory() {
+    }
+
+    public static ChromeOptions create(BrowserPreset preset) {
+        ChromeOptions options = common();
+        switch (preset) {
+            case DEBUG_HEADED -> options.addArguments("--start-maximized");
+            case CI -> {
+                options.addArguments("--headless=new");
+                options.addArguments("--window-size=1920,1080");
+            }
+            case FAST_HEADLESS -> {
+                options.addArguments("--headless=new");
+                // Fixed small viewport instead of maximizing
+                options.addArguments("--window-size=1280,800");
+                // Return from get() at DOMContentLoaded instead of waiting for every resource
+                options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+                options.addArguments("--blink-settings=imagesEnabled=false");
+                options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+                options.addArguments("--disable-extensions");
+                options.addArguments("--disable-background-networking");
+                options.addArguments("--disable-component-update");
+                options.addArguments("--disable-default-apps");
+                options.addArguments("--disable-sync");
+                options.addArguments("--no-first-run");
+                options.addArguments("--mute-audio");
+            }
+        }
+        return options;
+    }
+
+    /**
+     * The options shared by every preset, without any preset choice (window, images, preferences, first-run flags).
+     */
+    static ChromeOptions common() {
+        ChromeOptions options = new ChromeOptions();
+        // Needed in containers / CI for every preset
+        options.addArguments("--disable-gpu");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        return options;
+    }
+}
@@ -0,0 +1,386 @@
+package com.una.selenium.tests.support.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded pool of browser sessions shared by all test classes of a run.
+ * Instead of starting a new Chrome in every @BeforeEach, tests lease a session,
+ * and on release the pool wipes its state (extra windows, cookies, storage)
+ * and parks it on about:blank for the next test.
+ * The pool is thread-safe: with JUnit parallel execution each running test owns one session.
+ * Sessions that crash, fail to reset or exceed the reuse limit are quit and replaced.
+ * Idle sessions are kept per {@link BrowserPreset}: a test only reuses a browser started with its preset,
+ * and idle browsers of other presets are quit when a new one is needed and the pool is full.
+ *
+ * Configuration (system properties):
+ * - selenium.pool.size: maximum number of sessions leased at the same time
+ *   (default: selenium.parallelism, see {@link BrowserParallelismStrategy})
+ * - selenium.pool.maxReuse: number of tests a session may serve before it is recycled (default 25)
+ * - selenium.prewarm: start the next test's browser in the background when needed (default true, see {@link #prewarm})
+ * - selenium.prewarm.ttl: seconds a pre-warmed session may wait for its test before it is quit (default 30)
+ * - selenium.prewarm.extra: browsers a warm-up may start beyond the pool size (default 1)
+ * - selenium.browser.contexts: sessions per Chrome process (default 1, see {@link BrowserContexts})
+ */
+public final class DriverPool {
+
+    private static final Executor PREWARM_THREADS = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("driver-prewarm-", 0).factory());
+
+    private final int maxSize;
+    private final int maxReuse;
+    private final Function<BrowserPreset, WebDriver> factory;
+
+    // One permit per session that may be leased at the same time
+    private final Semaphore permits;
+    // Most recently released session first, so the "warmest" browser is reused
+    private final Map<BrowserPreset, Deque<PooledDriver>> idle = new EnumMap<>(BrowserPreset.class);
+    // Running browsers, leased or idle; kept at or below maxSize
+    private final AtomicInteger live = new AtomicInteger();
+    private final AtomicBoolean shutdown = new AtomicBoolean();
+    private final Set<PooledDriver> leased = ConcurrentHashMap.newKeySet();
+
+    // Speculative start-up of the session the next test will need
+    private final boolean prewarmEnabled = Boolean.parseBoolean(System.getProperty("selenium.prewarm", "true"));
+    private final int prewarmExtra = Math.max(0, Integer.getInteger("selenium.prewarm.extra", 1));
+    private volatile Duration prewarmTtl = Duration.ofSeconds(Long.getLong("selenium.prewarm.ttl", 30));
+    private final Map<BrowserPreset, CompletableFuture<PooledDriver>> warming = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder startFailures = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder resetNanos = new LongAdder();
+    private final AtomicLong maxResetNanos = new AtomicLong();
+    private final Map<String, LongAdder> evictions = new ConcurrentHashMap<>();
+    private final Map<BrowserPreset, LongAdder> leasesByPreset = new ConcurrentHashMap<>();
+    private final LongAdder prewarmStarted = new LongAdder();
+    private final LongAdder prewarmUsed = new LongAdder();
+    private final LongAdder prewarmTakenByOther = new LongAdder();
+    private final LongAdder prewarmWaited = new LongAdder();
+    private final LongAdder prewarmFailed = new LongAdder();
+    private final LongAdder hiddenStartupNanos = new LongAdder();
+
+    public DriverPool(int maxSize, int maxReuse, Function<BrowserPreset, WebDriver> factory) {
+        if (maxSize < 1 || maxReuse < 1) {
+            throw new IllegalArgumentException("Pool size and reuse limit must be positive");
+        }
+        this.maxSize = maxSize;
+        this.maxReuse = maxReuse;
+        this.factory = factory;
+        this.permits = new Semaphore(maxSize, true);
+        for (BrowserPreset preset : BrowserPreset.values()) {
+            idle.put(preset, new ConcurrentLinkedDeque<>());
+        }
+    }
+
+    /**
+     * The pool used by {@link DriverPoolExtension}; created on first use and kept for the whole JVM.
+     */
+    public static DriverPool shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Hands out a session started with the given preset, reusing an idle one when possible.
+     * Blocks while {@code selenium.pool.size} sessions are already leased.
+     */
+    public PooledDriver acquire(BrowserPreset preset) {
+        return acquire(preset, null);
+    }
+
+    /**
+     * Same as {@link #acquire(BrowserPreset)} for the test with the given unique id, so a warm session started for
+     * that test ({@link #prewarm}) is told apart from one another test takes.
+     */
+    public PooledDriver acquire(BrowserPreset preset, String testId) {
+        if (shutdown.get()) {
+            throw new IllegalStateException("Driver pool has been shut down");
+        }
+        permits.acquireUninterruptibly();
+        try {
+            expireWarmSessions();
+            PooledDriver pooled = idle.get(preset).pollFirst();
+            long waitedNanos = 0;
+            CompletableFuture<PooledDriver> inFlight = warming.get(preset);
+            if (pooled == null && inFlight != null) {
+                // The browser for this test is already starting: waiting for it beats starting another one
+                long waitStart = System.nanoTime();
+                inFlight.join();
+                waitedNanos = System.nanoTime() - waitStart;
+                pooled = idle.get(preset).pollFirst();
+                if (pooled != null) {
+                    prewarmWaited.increment();
+                }
+            }
+            if (pooled != null) {
+                hits.increment();
+                if (pooled.prewarmed() && pooled.leaseCount() == 0) {
+                    // Under parallel execution the forecast test may not be the one that leases next
+                    (pooled.prewarmedFor(testId) ? prewarmUsed : prewarmTakenByOther).increment();
+                    hiddenStartupNanos.add(Math.max(0, pooled.startupNanos() - waitedNanos));
+                }
+            } else {
+                makeRoomForNewSession();
+                try {
+                    pooled = new PooledDriver(factory.apply(preset), preset);
+                } catch (RuntimeException e) {
+                    startFailures.increment();
+                    throw e;
+                }
+                misses.increment();
+                live.incrementAndGet();
+            }
+            pooled.onLease();
+            leased.add(pooled);
+            leasesByPreset.computeIfAbsent(preset, key -> new LongAdder()).increment();
+            return pooled;
+        } catch (RuntimeException e) {
+            // Browser could not be started: give the slot back before failing the test
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a session to the pool. The session is reset for the next test,
+     * or quit if it is broken or has reached the reuse limit.
+     */
+    public void release(PooledDriver pooled) {
+        leased.remove(pooled);
+        try {
+            if (shutdown.get()) {
+                quit(pooled, "shutdown");
+            } else if (pooled.leaseCount() >= maxReuse) {
+                quit(pooled, "reuse limit");
+            } else if (reset(pooled.driver())) {
+                pooled.onIdle();
+                idle.get(pooled.preset()).offerFirst(pooled);
+            } else {
+                quit(pooled, "crashed or reset failed");
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Starts a session for the given preset in the background when the next test is predicted to need one that the
+     * pool could not hand out right away: no idle session with that preset, and no leased one that will come back
+     * reusable (e.g. the only one is at its reuse limit, or the preset changes). Called by {@link DriverPoolExtension}
+     * right after a lease, with the next planned test and its preset ({@link PresetForecast}), so the browser starts
+     * while the current test runs instead of in the next test's setup. forTest is the unique id of that test (null if
+     * unknown); it only tells the report whether the warm session went to the predicted test.
+     *
+     * A warm-up may exceed the pool size by selenium.prewarm.extra browsers; a warm session no test takes within
+     * selenium.prewarm.ttl is quit.
+     */
+    public void prewarm(BrowserPreset preset, String forTest) {
+        if (!prewarmEnabled || shutdown.get() || !idle.get(preset).isEmpty() || warming.containsKey(preset)
+                || leased.stream().anyMatch(pooled -> pooled.preset() == preset && pooled.leaseCount() < maxReuse)
+                || !reserveWarmSlot()) {
+            return;
+        }
+        CompletableFuture<PooledDriver> future = new CompletableFuture<>();
+        if (warming.putIfAbsent(preset, future) != null) {
+            live.decrementAndGet();
+            return;
+        }
+        prewarmStarted.increment();
+        PREWARM_THREADS.execute(() -> {
+            PooledDriver pooled = null;
+            try {
+                long start = System.nanoTime();
+                pooled = new PooledDriver(factory.apply(preset), preset, System.nanoTime() - start, true, forTest);
+                if (shutdown.get()) {
+                    quit(pooled, "shutdown");
+                    pooled = null;
+                } else {
+                    idle.get(preset).offerFirst(pooled);
+                    CompletableFuture.delayedExecutor(prewarmTtl.toMillis() + 100, TimeUnit.MILLISECONDS, PREWARM_THREADS)
+                            .execute(this::expireWarmSessions);
+                }
+            } catch (RuntimeException e) {
+                live.decrementAndGet();
+                prewarmFailed.increment();
+                System.err.println("Could not pre-warm a " + preset.id() + " browser: " + e.getMessage());
+            } finally {
+                warming.remove(preset, future);
+                future.complete(pooled);
+            }
+        });
+    }
+
+    void prewarmTtl(Duration ttl) {
+        prewarmTtl = ttl;
+    }
+
+    /**
+     * Quits every idle session. Leased sessions are quit as soon as they are released.
+     */
+    public void shutdown() {
+        shutdown.set(true);
+        for (Deque<PooledDriver> sessions : idle.values()) {
+            PooledDriver pooled;
+            while ((pooled = sessions.pollFirst()) != null) {
+                quit(pooled, "shutdown");
+            }
+        }
+    }
+
+    public String statsReport() {
+        long resetCount = resets.sum();
+        double avgResetMs = resetCount == 0 ? 0 : resetNanos.sum() / 1_000_000.0 / resetCount;
+        List<String> evicted = new ArrayList<>();
+        evictions.forEach((reason, count) -> evicted.add(reason + "=" + count.sum()));
+        List<String> presets = new ArrayList<>();
+        leasesByPreset.forEach((preset, count) -> presets.add(preset.id() + "=" + count.sum()));
+        String prewarm = !prewarmEnabled ? "off" : String.format(
+                "started=%d, used=%d, taken by another test=%d (%.1f s of browser start-up hidden), waited for=%d, failed=%d",
+                prewarmStarted.sum(), prewarmUsed.sum(), prewarmTakenByOther.sum(), hiddenStartupNanos.sum() / 1_000_000_000.0,
+                prewarmWaited.sum(), prewarmFailed.sum());
+        return String.format("pool size=%d, max reuse=%d%n"
+                        + "hits=%d, misses=%d (browsers started), failed starts=%d%n"
+                        + "leases by preset: %s%n"
+                        + "resets=%d, avg reset=%.1f ms, max reset=%.1f ms%n"
+                        + "prewarm: %s%n"
+                        + "evictions=%s",
+                maxSize, maxReuse, hits.sum(), misses.sum(), startFailures.sum(),
+                presets.isEmpty() ? "none" : String.join(", ", presets),
+                resetCount, avgResetMs, maxResetNanos.get() / 1_000_000.0, prewarm,
+                evicted.isEmpty() ? "none" : String.join(", ", evicted));
+    }
+
+    // Brings the session back to a clean state; returns false if the browser is no longer usable
+    private boolean reset(WebDriver driver) {
+        long start = System.nanoTime();
+        try {
+            // Close any extra windows/tabs the test opened and go back to the first one
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            if (handles.isEmpty()) {
+                return false;
+            }
+            for (String handle : handles.subList(1, handles.size())) {
+                driver.switchTo().window(handle).close();
+            }
+            driver.switchTo().window(handles.get(0));
+
+            // Web storage is per origin, so it has to be cleared before leaving the page
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            } catch (WebDriverException ignored) {
+                // about:blank, data: URLs and error pages have no storage
+            }
+            // deleteAllCookies() only covers the current domain; CDP clears the whole browser
+            if (driver instanceof HasCdp cdp) {
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            System.err.println("Browser session could not be reset: " + e.getMessage());
+            return false;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            resets.increment();
+            resetNanos.add(elapsed);
+            maxResetNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    // The pool is full of idle browsers with other presets: quit the least recently used ones
+    private void makeRoomForNewSession() {
+        while (live.get() >= maxSize) {
+            PooledDriver victim = null;
+            for (Deque<PooledDriver> sessions : idle.values()) {
+                victim = sessions.pollLast();
+                if (victim != null) {
+                    break;
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+            quit(victim, "preset change");
+        }
+    }
+
+    // Takes one of the live slots a warm-up may use (pool size + selenium.prewarm.extra)
+    private boolean reserveWarmSlot() {
+        int current;
+        do {
+            current = live.get();
+            if (current >= maxSize + prewarmExtra) {
+                return false;
+            }
+        } while (!live.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    // A pre-warmed session no test took within the TTL was a wrong guess: give its memory back
+    private void expireWarmSessions() {
+        long now = System.nanoTime();
+        for (Deque<PooledDriver> sessions : idle.values()) {
+            for (PooledDriver pooled : sessions) {
+                if (pooled.prewarmed() && pooled.leaseCount() == 0 && now - pooled.idleSinceNanos() > prewarmTtl.toNanos()
+                        && sessions.remove(pooled)) {
+                    quit(pooled, "prewarm expired");
+                }
+            }
+        }
+    }
+
+    private void quit(PooledDriver pooled, String reason) {
+        live.decrementAndGet();
+        evictions.computeIfAbsent(reason, key -> new LongAdder()).increment();
+        try {
+            pooled.driver().quit();
+        } catch (WebDriverException e) {
+            System.err.println("Error quitting browser session: " + e.getMessage());
+        }
+    }
+
+    // Lazy holder: the shared pool (and chromedriver) is only created if a test asks for a driver
+    private static final class Holder {
+        static final DriverPool INSTANCE = create();
+
+        private static DriverPool create() {
+            DriverPool pool = new DriverPool(
+                    Integer.getInteger("selenium.pool.size", BrowserParallelismStrategy.browserParallelism()),
+                    Integer.getInteger("selenium.pool.maxReuse", 25),
+                    // Every session records its last commands and browser events (forensics) and command latencies
+                    preset -> SessionInstrumentation.instrument(BrowserContexts.enabled()
+                            // Several sessions per Chrome process, each in its own browser context
+                            ? BrowserContexts.shared().open(preset)
+                            : SharedChromeDriverService.newSession(ChromeOptionsFactory.create(preset))));
+            // Safety net for aborted runs: never leave orphan browsers behind
+            Runtime.getRuntime().addShutdownHook(new Thread(pool::shutdown, "driver-pool-shutdown"));
+            return pool;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.una.selenium.tests.support.driver;
+
+import com.una.selenium.tests.support.network.BlockResources;
+import com.una.selenium.tests.support.report.RunReport;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestWatcher;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * JUnit 5 extension that injects a pooled {@link WebDriver} into test and lifecycle methods
+ * (e.g. {@code @BeforeEach void setUp(WebDriver driver)}) instead of each test starting its own browser.
+ *
+ * The session is returned to the {@link DriverPool} only after the TestWatcher callbacks,
+ * so watchers registered after this extension (like the screenshot watcher) still see the page
+ * the test failed on. Tests must therefore NOT call driver.quit().
+ *
+ * Each lease is bound to the executing test (not to a thread or a static field), so classes and
+ * methods can run concurrently; other extensions find the test's driver with {@link #driverOf}.
+ *
+ * The browser options come from the test's {@link BrowserPreset} ({@link BrowserProfile} or -Dselenium.preset);
+ * the preset used is published as the "browser.preset" report entry of each test. Requests the test does not need
+ * are blocked as declared by {@link BlockResources}. After each lease the pool pre-warms the browser of the next
+ * planned test if it will need a new one ({@link DriverPool#prewarm}).
+ *
+ * Tests that declare they need no browser feature ({@link BrowserFeatures}) get an in-process HtmlUnit session
+ * instead of a pooled Chrome ({@link BrowserTier}); the tier used is published as the "browser.tier" report entry.
+ */
+public class DriverPoolExtension implements ParameterResolver, TestWatcher {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(DriverPoolExtension.class);
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        // Only per-test injection is supported (@BeforeEach, @Test, @AfterEach)
+        return parameterContext.getParameter().getType() == WebDriver.class
+                && extensionContext.getTestMethod().isPresent();
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext)
+            throws ParameterResolutionException {
+        return lease(extensionContext).driver();
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        release(context);
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        release(context);
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        release(context);
+    }
+
+    /**
+     * The driver leased by the given test, if it asked for one. Valid until the TestWatcher callbacks finish.
+     */
+    public static Optional<WebDriver> driverOf(ExtensionContext context) {
+        return Optional.ofNullable(parentStore(context).get(context.getUniqueId(), Lease.class))
+                .map(Lease::driver);
+    }
+
+    private static Lease lease(ExtensionContext context) {
+        RunReport.install(context);
+        context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(PoolShutdown.class, key -> new PoolShutdown(), PoolShutdown.class);
+        // The method store is closed before TestWatchers run, so the lease lives in the parent (class) store.
+        // It is only stored once it succeeded: a failed start must not be thrown again by driverOf and release.
+        ExtensionContext.Store store = parentStore(context);
+        Lease lease = store.get(context.getUniqueId(), Lease.class);
+        if (lease == null) {
+            lease = newLease(context);
+            store.put(context.getUniqueId(), lease);
+        }
+        return lease;
+    }
+
+    private static Lease newLease(ExtensionContext context) {
+        BrowserTier tier = announceTier(context);
+        long start = System.nanoTime();
+        if (tier == BrowserTier.HTMLUNIT) {
+            // In-process sessions start in milliseconds: one per test, never pooled
+            Lease lease = new Lease(SessionInstrumentation.instrument(BrowserTier.newInProcessSession(), tier), null);
+            try {
+                BrowserTier.leased(tier, System.nanoTime() - start);
+                SessionInstrumentation.leased(lease.driver(), context.getRequiredTestClass(), Optional.empty());
+            } catch (RuntimeException e) {
+                lease.close();
+                throw e;
+            }
+            return lease;
+        }
+        BrowserPreset preset = announcePreset(context);
+        PooledDriver pooled = DriverPool.shared().acquire(preset, context.getUniqueId());
+        Lease lease = new Lease(pooled.driver(), pooled);
+        try {
+            BrowserTier.leased(tier, System.nanoTime() - start);
+            // Forensics and command timings of a reused session start with this test
+            SessionInstrumentation.leased(pooled.driver(), context.getRequiredTestClass(), blockedResourcesOf(context));
+            // If the next test will need a new browser, start it while this test runs
+            DriverPool.shared().prewarm(PresetForecast.after(context.getUniqueId(), preset),
+                    PresetForecast.testAfter(context.getUniqueId()).orElse(null));
+        } catch (RuntimeException e) {
+            // Never stored, so no TestWatcher callback would give the session back
+            lease.close();
+            throw e;
+        }
+        return lease;
+    }
+
+    /**
+     * Whether the test class gets its drivers from this extension (@ExtendWith(DriverPoolExtension.class)).
+     */
+    public static boolean isUsedBy(Class<?> testClass) {
+        return AnnotationSupport.findRepeatableAnnotations(testClass, ExtendWith.class).stream()
+                .anyMatch(extendWith -> Arrays.asList(extendWith.value()).contains(DriverPoolExtension.class));
+    }
+
+    /**
+     * Preset for the test: method annotation, then class annotation, then the run-wide default.
+     */
+    public static BrowserPreset presetOf(ExtensionContext context) {
+        return presetOf(context.getTestMethod(), context.getTestClass());
+    }
+
+    static BrowserPreset presetOf(Optional<Method> testMethod, Optional<Class<?>> testClass) {
+        return AnnotationSupport.findAnnotation(testMethod, BrowserProfile.class)
+                .or(() -> AnnotationSupport.findAnnotation(testClass, BrowserProfile.class))
+                .map(BrowserProfile::value)
+                .orElseGet(BrowserPreset::forRun);
+    }
+
+    /**
+     * Requests to block for the test: method annotation, then class annotation.
+     */
+    static Optional<BlockResources> blockedResourcesOf(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getTestMethod(), BlockResources.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getTestClass(), BlockResources.class));
+    }
+
+    /**
+     * Backend for the test, from the features it declares ({@link BrowserFeatures}).
+     */
+    public static BrowserTier tierOf(ExtensionContext context) {
+        return BrowserTier.select(context.getTestMethod(), context.getTestClass());
+    }
+
+    private static BrowserTier announceTier(ExtensionContext context) {
+        BrowserTier tier = tierOf(context);
+        context.publishReportEntry("browser.tier", tier.id());
+        return tier;
+    }
+
+    private static BrowserPreset announcePreset(ExtensionContext context) {
+        BrowserPreset preset = presetOf(context);
+        context.publishReportEntry("browser.preset", preset.id());
+        return preset;
+    }
+
+    private static void release(ExtensionContext context) {
+        Lease lease = parentStore(context).remove(context.getUniqueId(), Lease.class);
+        if (lease != null) {
+            lease.close();
+        }
+    }
+
+    private static ExtensionContext.Store parentStore(ExtensionContext context) {
+        Optional<ExtensionContext> parent = context.getParent();
+        return parent.orElse(context).getStore(NAMESPACE);
+    }
+
+    /**
+     * Store entry for a leased session (pooled is null for in-process sessions); if the test never reaches
+     * a TestWatcher callback the session is still released when the class store is closed.
+     */
+    private record Lease(WebDriver driver, PooledDriver pooled) implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            SessionInstrumentation.released(driver);
+            if (pooled != null) {
+                DriverPool.shared().release(pooled);
+            } else {
+                driver.quit();
+            }
+        }
+    }
+
+    // Registered once in the root store: reports the pool statistics and quits idle browsers at the end of the run
+    private static final class PoolShutdown implements ExtensionContext.Store.CloseableResource {
+
+        PoolShutdown() {
+            RunReport.register("Driver pool", () -> DriverPool.shared().statsReport());
+        }
+
+        @Override
+        public void close() {
+            DriverPool.shared().shutdown();
+            BrowserContexts.shutdownShared();
+        }
+    }
+}
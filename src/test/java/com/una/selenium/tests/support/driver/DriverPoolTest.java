@@ -0,0 +1,165 @@
+package com.una.selenium.tests.support.driver;
+
+import com.una.selenium.tests.support.FakeDriver;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DriverPool bookkeeping, using fake in-memory drivers instead of Chrome.
+ */
+public class DriverPoolTest {
+
+    private final AtomicInteger started = new AtomicInteger();
+    // Pre-warmed sessions are started and expired on background threads
+    private final List<String> quit = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void reusesReleasedSessionAndResetsIt() {
+        DriverPool pool = new DriverPool(1, 10, preset -> fakeDriver("s" + started.incrementAndGet(), false));
+
+        PooledDriver first = pool.acquire(BrowserPreset.CI);
+        pool.release(first);
+        PooledDriver second = pool.acquire(BrowserPreset.CI);
+
+        assertSame(first, second, "Released session should be handed out again");
+        assertEquals(2, second.leaseCount());
+        assertEquals(1, started.get(), "Only one browser should have been started");
+        assertTrue(pool.statsReport().contains("hits=1, misses=1"), pool.statsReport());
+    }
+
+    @Test
+    void recyclesSessionAfterReuseLimit() {
+        DriverPool pool = new DriverPool(1, 2, preset -> fakeDriver("s" + started.incrementAndGet(), false));
+
+        pool.release(pool.acquire(BrowserPreset.CI));
+        pool.release(pool.acquire(BrowserPreset.CI));
+        pool.acquire(BrowserPreset.CI);
+
+        assertEquals(List.of("s1"), quit);
+        assertEquals(2, started.get());
+        assertTrue(pool.statsReport().contains("reuse limit=1"), pool.statsReport());
+    }
+
+    @Test
+    void evictsSessionThatFailsToReset() {
+        DriverPool pool = new DriverPool(1, 10, preset -> fakeDriver("s" + started.incrementAndGet(), true));
+
+        pool.release(pool.acquire(BrowserPreset.CI));
+        pool.acquire(BrowserPreset.CI);
+
+        assertEquals(List.of("s1"), quit);
+        assertEquals(2, started.get(), "A crashed session must be replaced by a new browser");
+    }
+
+    @Test
+    void countsOnlyBrowsersThatStarted() {
+        DriverPool pool = new DriverPool(1, 10, preset -> {
+            if (started.incrementAndGet() == 1) {
+                throw new WebDriverException("chrome failed to start");
+            }
+            return fakeDriver("s" + started.get(), false);
+        });
+
+        assertThrows(WebDriverException.class, () -> pool.acquire(BrowserPreset.CI));
+        pool.acquire(BrowserPreset.CI);
+
+        assertTrue(pool.statsReport().contains("misses=1 (browsers started), failed starts=1"), pool.statsReport());
+    }
+
+    @Test
+    void keepsSessionsPerPresetAndQuitsOtherPresetWhenFull() {
+        DriverPool pool = new DriverPool(1, 10, preset -> fakeDriver(preset.id(), false));
+
+        pool.release(pool.acquire(BrowserPreset.CI));
+        PooledDriver fast = pool.acquire(BrowserPreset.FAST_HEADLESS);
+
+        assertEquals(BrowserPreset.FAST_HEADLESS, fast.preset());
+        assertEquals(List.of("ci"), quit, "The idle ci browser must make room for the fast-headless one");
+        assertTrue(pool.statsReport().contains("preset change=1"), pool.statsReport());
+    }
+
+    @Test
+    void prewarmsReplacementWhileSessionAtReuseLimitIsStillLeased() {
+        DriverPool pool = new DriverPool(1, 2, preset -> slowStart("s" + started.incrementAndGet()));
+
+        pool.release(pool.acquire(BrowserPreset.CI));
+        PooledDriver last = pool.acquire(BrowserPreset.CI);
+        pool.prewarm(BrowserPreset.CI, "test-3");
+        pool.release(last);
+        PooledDriver next = pool.acquire(BrowserPreset.CI, "test-3");
+
+        assertTrue(next.prewarmed(), "The next test should get the browser started in the background");
+        assertEquals(List.of("s1"), quit);
+        assertTrue(pool.statsReport().contains("started=1, used=1, taken by another test=0"), pool.statsReport());
+    }
+
+    @Test
+    void warmSessionTakenByAnotherTestIsNotCountedAsUsed() {
+        DriverPool pool = new DriverPool(2, 10, preset -> slowStart("s" + started.incrementAndGet()));
+
+        pool.prewarm(BrowserPreset.CI, "test-2");
+        // A test running in parallel leases before the one the session was started for
+        pool.acquire(BrowserPreset.CI, "other-test");
+
+        assertTrue(pool.statsReport().contains("started=1, used=0, taken by another test=1"), pool.statsReport());
+    }
+
+    @Test
+    void doesNotPrewarmWhenLeasedSessionWillBeReused() {
+        DriverPool pool = new DriverPool(1, 10, preset -> fakeDriver("s" + started.incrementAndGet(), false));
+
+        pool.acquire(BrowserPreset.CI);
+        pool.prewarm(BrowserPreset.CI, null);
+
+        assertEquals(1, started.get());
+        assertTrue(pool.statsReport().contains("started=0"), pool.statsReport());
+    }
+
+    @Test
+    void quitsWarmSessionNoTestTook() throws InterruptedException {
+        DriverPool pool = new DriverPool(1, 10, preset -> fakeDriver(preset.id(), false));
+        pool.prewarmTtl(Duration.ofMillis(50));
+
+        pool.prewarm(BrowserPreset.FAST_HEADLESS, null);
+        for (int i = 0; i < 100 && quit.isEmpty(); i++) {
+            Thread.sleep(20);
+        }
+
+        assertEquals(List.of("fast-headless"), quit);
+        assertTrue(pool.statsReport().contains("prewarm expired=1"), pool.statsReport());
+    }
+
+    // Fake browser that takes 100 ms to start, like a (very fast) real one
+    private WebDriver slowStart(String name) {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return fakeDriver(name, false);
+    }
+
+    // Minimal WebDriver that only supports the calls made by the pool during reset
+    private WebDriver fakeDriver(String name, boolean crashed) {
+        return FakeDriver.driver().named(name).implementing(JavascriptExecutor.class)
+                .on("getWindowHandles", args -> {
+                    if (crashed) {
+                        throw new WebDriverException("session deleted because of page crash");
+                    }
+                    return Set.of("main");
+                })
+                .on("quit", args -> quit.add(name))
+                .build();
+    }
+}
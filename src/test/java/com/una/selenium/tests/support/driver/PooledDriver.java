@@ -0,0 +1,81 @@
+package com.una.selenium.tests.support.driver;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A browser session owned by the {@link DriverPool}.
+ * Tests only see the {@link WebDriver}; the pool uses the bookkeeping fields
+ * to decide when a session has been reused too often and must be recycled.
+ */
+public final class PooledDriver {
+
+    private final WebDriver driver;
+    private final BrowserPreset preset;
+    private final long startupNanos;
+    private final boolean prewarmed;
+    // Unique id of the test a pre-warmed session was started for, if known
+    private final String prewarmedFor;
+    // Written by the leasing thread only, read by pre-warming and expiry on other threads
+    private volatile int leaseCount;
+    private volatile long idleSinceNanos;
+
+    PooledDriver(WebDriver driver, BrowserPreset preset) {
+        this(driver, preset, 0, false, null);
+    }
+
+    PooledDriver(WebDriver driver, BrowserPreset preset, long startupNanos, boolean prewarmed, String prewarmedFor) {
+        this.driver = driver;
+        this.preset = preset;
+        this.startupNanos = startupNanos;
+        this.prewarmed = prewarmed;
+        this.prewarmedFor = prewarmedFor;
+        this.idleSinceNanos = System.nanoTime();
+    }
+
+    public WebDriver driver() {
+        return driver;
+    }
+
+    /**
+     * The options preset the browser was started with.
+     */
+    public BrowserPreset preset() {
+        return preset;
+    }
+
+    /**
+     * Number of tests that have used this session so far (including the current one).
+     */
+    public int leaseCount() {
+        return leaseCount;
+    }
+
+    /**
+     * Whether the session was started speculatively, ahead of the test that needs it (see DriverPool#prewarm).
+     */
+    public boolean prewarmed() {
+        return prewarmed;
+    }
+
+    // Whether the session was pre-warmed for the given test (false when it is not known whom it was for)
+    boolean prewarmedFor(String testId) {
+        return prewarmedFor != null && prewarmedFor.equals(testId);
+    }
+
+    // How long the browser took to start (only measured for pre-warmed sessions)
+    long startupNanos() {
+        return startupNanos;
+    }
+
+    long idleSinceNanos() {
+        return idleSinceNanos;
+    }
+
+    void onLease() {
+        leaseCount++;
+    }
+
+    void onIdle() {
+        idleSinceNanos = System.nanoTime();
+    }
+}
@@ -0,0 +1,87 @@
+package com.una.selenium.tests.support.driver;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Predicts which test leases a session next, and with which browser preset, from the planned test order (the test
+ * plan already reflects the class and method orderers). Registered through
+ * META-INF/services/org.junit.platform.launcher.TestExecutionListener.
+ *
+ * This is a heuristic. Surefire hands all classes to the launcher in one test plan, and with parallel execution
+ * classes and methods run concurrently, so the next planned test is not necessarily the next one to lease a session:
+ * a warm session may be taken by another test of the same preset (the "Driver pool" report counts those apart from
+ * the warm-ups the predicted test used). Past the last planned test the forecast assumes the current test's preset.
+ */
+public class PresetForecast implements TestExecutionListener {
+
+    // Unique id of each planned test that uses the pool -> the next planned test that uses the pool, with its preset
+    private static final Map<String, Map.Entry<String, BrowserPreset>> NEXT = new ConcurrentHashMap<>();
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        List<Map.Entry<String, BrowserPreset>> planned = new ArrayList<>();
+        testPlan.getRoots().forEach(root -> collect(testPlan, root, planned));
+        for (int i = 0; i + 1 < planned.size(); i++) {
+            NEXT.put(planned.get(i).getKey(), planned.get(i + 1));
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+        NEXT.remove(testIdentifier.getUniqueId());
+    }
+
+    /**
+     * Preset of the test planned after the given one, or the given test's own preset if it is the last one known.
+     */
+    static BrowserPreset after(String uniqueId, BrowserPreset current) {
+        Map.Entry<String, BrowserPreset> next = NEXT.get(uniqueId);
+        return next == null ? current : next.getValue();
+    }
+
+    /**
+     * Unique id of the test planned after the given one, if known.
+     */
+    static Optional<String> testAfter(String uniqueId) {
+        return Optional.ofNullable(NEXT.get(uniqueId)).map(Map.Entry::getKey);
+    }
+
+    private static void collect(TestPlan testPlan, TestIdentifier identifier, List<Map.Entry<String, BrowserPreset>> planned) {
+        if (identifier.isTest()) {
+            presetOf(identifier.getSource().orElse(null)).ifPresent(preset -> planned.add(Map.entry(identifier.getUniqueId(), preset)));
+        }
+        // Children come in execution order
+        testPlan.getChildren(identifier).forEach(child -> collect(testPlan, child, planned));
+    }
+
+    private static Optional<BrowserPreset> presetOf(TestSource source) {
+        if (!(source instanceof MethodSource methodSource)) {
+            return Optional.empty();
+        }
+        try {
+            Class<?> testClass = methodSource.getJavaClass();
+            boolean pooled = DriverPoolExtension.isUsedBy(testClass);
+            Method method = methodSource.getJavaMethod();
+            // Tests on the in-process tier never lease a pooled browser
+            if (!pooled || BrowserTier.select(Optional.of(method), Optional.of(testClass)) != BrowserTier.CHROME) {
+                return Optional.empty();
+            }
+            return Optional.of(DriverPoolExtension.presetOf(Optional.of(method), Optional.of(testClass)));
+        } catch (RuntimeException e) {
+            // Only a forecast: a test that cannot be inspected is simply not predicted
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.una.selenium.tests.support.driver;
+
+import com.una.selenium.tests.support.metrics.LatencyHistogram;
+import com.una.selenium.tests.support.report.RunReport;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Pre-initialized Chrome user-data-dir that every new session starts from, so Chrome does its first-run work
+ * (profile creation, first-run sentinel, component and cache setup) once instead of in every session.
+ *
+ * The template is built on first use by a throw-away headless session with preset-neutral options (it is shared by
+ * every preset) and kept in {@code <root>/template} for the following runs (rebuilt after
+ * selenium.profile.template.maxAgeDays, default 7, to follow Chrome updates). Each session gets its own copy in
+ * {@code <root>/session-<pid>-<n>}, deleted when the session quits. The root is on tmpfs (/dev/shm) when available,
+ * so the copy is a memory copy; -Dselenium.profile.dir overrides it.
+ * Hard links are not used: Chrome updates its SQLite files (cookies, history...) in place, which would write
+ * through to the template.
+ *
+ * -Dselenium.profile.template=false starts every session with an empty temporary profile, as before; the
+ * "Browser start-up" report section compares the start-up time of both kinds of sessions.
+ */
+final class ProfileTemplate {
+
+    private static final String USER_DATA_DIR = "--user-data-dir=";
+    // Files that tie a profile to the running browser instance; never copied
+    private static final List<String> INSTANCE_FILES = List.of("SingletonLock", "SingletonSocket", "SingletonCookie", "lockfile");
+    // Time given to the template browser to finish its first-run work before it quits
+    private static final long SETTLE_MILLIS = 1_500;
+    private static final long PID = ProcessHandle.current().pid();
+
+    private static final LatencyHistogram FRESH_STARTS = new LatencyHistogram();
+    private static final LatencyHistogram TEMPLATE_STARTS = new LatencyHistogram();
+    private static final LatencyHistogram CLONES = new LatencyHistogram();
+
+    static {
+        RunReport.register("Browser start-up", () -> shared().report());
+    }
+
+    private final Path root;
+    private final Duration maxAge;
+    private final AtomicInteger sequence = new AtomicInteger();
+    private volatile String unavailable;
+    private volatile long buildNanos;
+
+    ProfileTemplate(Path root, Duration maxAge) {
+        this.root = root;
+        this.maxAge = maxAge;
+    }
+
+    static boolean enabled() {
+        return Boolean.parseBoolean(System.getProperty("selenium.profile.template", "true"));
+    }
+
+    static ProfileTemplate shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Points the options to a fresh copy of the template (building the template first if needed) and returns
+     * the copy; empty if the options already choose a profile or the template cannot be built.
+     */
+    Optional<Path> cloneInto(ChromeOptions options, Function<ChromeOptions, WebDriver> starter) {
+        if (unavailable != null || userDataDir(options).isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            Path template = template(options, starter);
+            long start = System.nanoTime();
+            Path clone = root.resolve("session-" + PID + "-" + sequence.incrementAndGet());
+            copy(template, clone);
+            CLONES.record(System.nanoTime() - start);
+            options.addArguments(USER_DATA_DIR + clone.toAbsolutePath());
+            return Optional.of(clone);
+        } catch (IOException | UncheckedIOException | WebDriverException e) {
+            // A slower start is better than no browser: the remaining sessions use empty profiles
+            unavailable = e.getMessage();
+            System.err.println("Chrome profile template unavailable, using empty profiles: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Records how long a session took to start, with or without a template copy.
+     */
+    static void started(boolean fromTemplate, long nanos) {
+        (fromTemplate ? TEMPLATE_STARTS : FRESH_STARTS).record(nanos);
+    }
+
+    static void delete(Path directory) {
+        if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(directory)) {
+            walk.sorted((a, b) -> b.getNameCount() - a.getNameCount()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException ignored) {
+                    // Best effort: a file Chrome still holds is removed with the next run's stale directories
+                }
+            });
+        } catch (IOException | UncheckedIOException ignored) {
+            // Same as above
+        }
+    }
+
+    private synchronized Path template(ChromeOptions options, Function<ChromeOptions, WebDriver> starter) throws IOException {
+        Path template = root.resolve("template");
+        if (isFresh(template)) {
+            return template;
+        }
+        Files.createDirectories(root);
+        // Shards and parallel builds share the root: only one process builds the template
+        try (FileChannel channel = FileChannel.open(root.resolve("template.lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            if (isFresh(template)) {
+                return template;
+            }
+            long start = System.nanoTime();
+            Path building = root.resolve("building-" + PID);
+            delete(building);
+            ChromeOptions buildOptions = buildOptions(options);
+            buildOptions.addArguments(USER_DATA_DIR + building.toAbsolutePath());
+            WebDriver browser = starter.apply(buildOptions);
+            try {
+                browser.get("about:blank");
+                Thread.sleep(SETTLE_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                // Chrome writes its preferences when it exits
+                browser.quit();
+            }
+            delete(template);
+            Files.move(building, template, StandardCopyOption.ATOMIC_MOVE);
+            buildNanos = System.nanoTime() - start;
+            return template;
+        }
+    }
+
+    /**
+     * Options of the throw-away template browser: the same Chrome binary as the session, otherwise only the
+     * options common to every preset (headless), so the first caller's preset does not leak into everyone's profile
+     * (e.g. fast-headless preferences written to Default/Preferences, or --no-first-run skipping the work to keep).
+     */
+    static ChromeOptions buildOptions(ChromeOptions sessionOptions) {
+        ChromeOptions options = ChromeOptionsFactory.common();
+        options.addArguments("--headless=new");
+        if (sessionOptions.asMap().get(ChromeOptions.CAPABILITY) instanceof Map<?, ?> chromeOptions
+                && chromeOptions.get("binary") instanceof String binary) {
+            options.setBinary(binary);
+        }
+        return options;
+    }
+
+    private boolean isFresh(Path template) throws IOException {
+        return Files.isDirectory(template)
+                && Files.getLastModifiedTime(template).toInstant().isAfter(Instant.now().minus(maxAge));
+    }
+
+    static void copy(Path from, Path to) throws IOException {
+        Files.walkFileTree(from, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(to.resolve(from.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (attrs.isRegularFile() && !INSTANCE_FILES.contains(file.getFileName().toString())) {
+                    Files.copy(file, to.resolve(from.relativize(file).toString()), LinkOption.NOFOLLOW_LINKS);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    static Optional<String> userDataDir(ChromeOptions options) {
+        Object chromeOptions = options.asMap().get(ChromeOptions.CAPABILITY);
+        if (chromeOptions instanceof Map<?, ?> map && map.get("args") instanceof List<?> args) {
+            return args.stream().map(String::valueOf).filter(arg -> arg.startsWith(USER_DATA_DIR))
+                    .map(arg -> arg.substring(USER_DATA_DIR.length())).findFirst();
+        }
+        return Optional.empty();
+    }
+
+    // Session copies of processes that no longer run (crashed or killed runs)
+    private void deleteStaleCopies() {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> entries = Files.list(root)) {
+            entries.filter(path -> {
+                String[] parts = path.getFileName().toString().split("-");
+                return parts.length >= 2 && (parts[0].equals("session") || parts[0].equals("building"))
+                        && parts[1].chars().allMatch(Character::isDigit)
+                        && ProcessHandle.of(Long.parseLong(parts[1])).isEmpty();
+            }).forEach(ProfileTemplate::delete);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not clean old Chrome profile copies in " + root + ": " + e.getMessage());
+        }
+    }
+
+    private void deleteOwnCopies() {
+        try (Stream<Path> entries = Files.list(root)) {
+            entries.filter(path -> path.getFileName().toString().startsWith("session-" + PID + "-")).forEach(ProfileTemplate::delete);
+        } catch (IOException | UncheckedIOException ignored) {
+            // Removed by the next run
+        }
+    }
+
+    String report() {
+        StringBuilder out = new StringBuilder(String.format("%-26s %6s %9s %9s %9s%n", "session start", "count", "p50 ms", "p90 ms", "max ms"));
+        row(out, "empty profile", FRESH_STARTS);
+        row(out, "template copy", TEMPLATE_STARTS);
+        row(out, "  of which copying", CLONES);
+        out.append(enabled() ? "template: " + root.resolve("template") : "template: off (-Dselenium.profile.template=false)");
+        if (buildNanos > 0) {
+            out.append(String.format(Locale.ROOT, ", built this run in %.1f s", buildNanos / 1_000_000_000.0));
+        }
+        if (unavailable != null) {
+            out.append(", unavailable: ").append(unavailable);
+        }
+        return out.toString();
+    }
+
+    private static void row(StringBuilder out, String label, LatencyHistogram histogram) {
+        out.append(String.format(Locale.ROOT, "%-26s %6d %9.1f %9.1f %9.1f%n", label, histogram.count(),
+                histogram.percentileMicros(50) / 1_000.0, histogram.percentileMicros(90) / 1_000.0,
+                histogram.maxNanos() / 1_000_000.0));
+    }
+
+    static Path defaultRoot() {
+        String configured = System.getProperty("selenium.profile.dir");
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        Path shm = Paths.get("/dev/shm");
+        Path base = Files.isDirectory(shm) && Files.isWritable(shm) ? shm : Paths.get(System.getProperty("java.io.tmpdir"));
+        return base.resolve("selenium-profiles-" + System.getProperty("user.name", "user"));
+    }
+
+    private static final class Holder {
+        static final ProfileTemplate INSTANCE = new ProfileTemplate(defaultRoot(),
+                Duration.ofDays(Long.getLong("selenium.profile.template.maxAgeDays", 7)));
+
+        static {
+            INSTANCE.deleteStaleCopies();
+            Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::deleteOwnCopies, "profile-copies-cleanup"));
+        }
+    }
+}
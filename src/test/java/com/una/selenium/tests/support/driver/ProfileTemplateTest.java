@@ -0,0 +1,106 @@
+package com.una.selenium.tests.support.driver;
+
+import com.una.selenium.tests.support.FakeDriver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Builds and copies profile templates with a fake browser that writes a few profile files (no Chrome needed).
+ */
+public class ProfileTemplateTest {
+
+    @TempDir
+    Path root;
+
+    private final AtomicInteger browsersStarted = new AtomicInteger();
+    private final List<ChromeOptions> browserOptions = new ArrayList<>();
+
+    @Test
+    void buildsTemplateOnceAndGivesEachSessionItsOwnCopy() throws IOException {
+        ProfileTemplate template = new ProfileTemplate(root, Duration.ofDays(7));
+
+        ChromeOptions first = new ChromeOptions();
+        Path firstCopy = template.cloneInto(first, this::fakeBrowser).orElseThrow();
+        Path secondCopy = template.cloneInto(new ChromeOptions(), this::fakeBrowser).orElseThrow();
+
+        assertEquals(1, browsersStarted.get(), "The template is built by a single throw-away browser");
+        assertNotEquals(firstCopy, secondCopy);
+        assertEquals(Optional.of(firstCopy.toAbsolutePath().toString()), ProfileTemplate.userDataDir(first));
+        assertTrue(Files.exists(secondCopy.resolve("First Run")));
+        assertEquals("{\"first_run\":false}", Files.readString(secondCopy.resolve("Default/Preferences")));
+        assertFalse(Files.exists(secondCopy.resolve("SingletonLock"), LinkOption.NOFOLLOW_LINKS),
+                "Instance locks of the template browser must not be copied");
+
+        Files.writeString(firstCopy.resolve("Default/Preferences"), "changed by a test");
+        assertEquals("{\"first_run\":false}", Files.readString(root.resolve("template/Default/Preferences")));
+
+        ProfileTemplate.delete(firstCopy);
+        assertFalse(Files.exists(firstCopy));
+    }
+
+    @Test
+    void keepsExplicitProfilesAndRebuildsExpiredTemplate() {
+        ProfileTemplate expired = new ProfileTemplate(root, Duration.ZERO);
+
+        ChromeOptions explicit = new ChromeOptions().addArguments("--user-data-dir=/tmp/mine");
+        assertEquals(Optional.empty(), expired.cloneInto(explicit, this::fakeBrowser));
+        assertEquals(0, browsersStarted.get());
+
+        expired.cloneInto(new ChromeOptions(), this::fakeBrowser).orElseThrow();
+        expired.cloneInto(new ChromeOptions(), this::fakeBrowser).orElseThrow();
+        assertEquals(2, browsersStarted.get());
+    }
+
+    @Test
+    void buildsTemplateWithoutTheFirstCallersPreset() {
+        ProfileTemplate template = new ProfileTemplate(root, Duration.ofDays(7));
+        ChromeOptions fast = ChromeOptionsFactory.create(BrowserPreset.FAST_HEADLESS);
+        fast.setBinary("/opt/chrome/chrome");
+
+        template.cloneInto(fast, this::fakeBrowser).orElseThrow();
+
+        Map<?, ?> built = (Map<?, ?>) browserOptions.get(0).asMap().get(ChromeOptions.CAPABILITY);
+        List<?> arguments = (List<?>) built.get("args");
+        assertTrue(arguments.contains("--headless=new"), arguments.toString());
+        assertFalse(arguments.contains("--no-first-run"), "The template must keep Chrome's first-run work: " + arguments);
+        assertFalse(arguments.contains("--blink-settings=imagesEnabled=false"), arguments.toString());
+        assertFalse(built.containsKey("prefs"), "Preset preferences would be written into every session's profile");
+        assertEquals("/opt/chrome/chrome", built.get("binary"));
+        assertNull(browserOptions.get(0).getCapability("pageLoadStrategy"));
+        assertTrue(((List<?>) ((Map<?, ?>) fast.asMap().get(ChromeOptions.CAPABILITY)).get("args")).contains("--no-first-run"),
+                "The session itself keeps its preset");
+    }
+
+    // Writes what Chrome leaves in a new user-data-dir: first-run sentinel, preferences and an instance lock
+    private WebDriver fakeBrowser(ChromeOptions options) {
+        browsersStarted.incrementAndGet();
+        browserOptions.add(options);
+        Path profile = Paths.get(ProfileTemplate.userDataDir(options).orElseThrow());
+        try {
+            Files.createDirectories(profile.resolve("Default"));
+            Files.writeString(profile.resolve("First Run"), "");
+            Files.writeString(profile.resolve("Default/Preferences"), "{\"first_run\":false}");
+            Files.createSymbolicLink(profile.resolve("SingletonLock"), Paths.get("host-1234"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return FakeDriver.driver().build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.una.selenium.tests.support.driver;
+
+import com.una.selenium.tests.support.forensics.SessionRecorder;
+import com.una.selenium.tests.support.metrics.CommandLatency;
+import com.una.selenium.tests.support.network.BlockResources;
+import com.una.selenium.tests.support.network.RequestBlocker;
+import com.una.selenium.tests.support.page.PageChanges;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Wraps every new pooled session in a single {@link EventFiringDecorator} carrying the enabled listeners
+ * (failure forensics, command latency, request blocking, page changes for lazy page-object elements),
+ * and tells them when the session changes hands.
+ *
+ * In-process sessions ({@link BrowserTier#HTMLUNIT}) only get command latency, in their own histograms, and page
+ * changes: forensics and request blocking are built on the DevTools connection such a session does not have.
+ */
+final class SessionInstrumentation {
+
+    private SessionInstrumentation() {
+    }
+
+    static WebDriver instrument(WebDriver driver) {
+        return instrument(driver, BrowserTier.CHROME);
+    }
+
+    static WebDriver instrument(WebDriver driver, BrowserTier tier) {
+        boolean browser = tier == BrowserTier.CHROME;
+        Optional<SessionRecorder> recorder = browser ? SessionRecorder.create(driver) : Optional.empty();
+        Optional<CommandLatency> latency = CommandLatency.create(tier.id());
+        Optional<RequestBlocker> blocker = browser ? RequestBlocker.create(driver) : Optional.empty();
+        PageChanges pageChanges = PageChanges.create();
+        List<WebDriverListener> listeners = new ArrayList<>();
+        recorder.ifPresent(listeners::add);
+        latency.ifPresent(listeners::add);
+        blocker.ifPresent(listeners::add);
+        listeners.add(pageChanges);
+        WebDriver decorated = new EventFiringDecorator<>(listeners.toArray(WebDriverListener[]::new)).decorate(driver);
+        recorder.ifPresent(listener -> listener.register(decorated));
+        latency.ifPresent(listener -> listener.register(decorated));
+        blocker.ifPresent(listener -> listener.register(decorated));
+        pageChanges.register(decorated);
+        return decorated;
+    }
+
+    /**
+     * The session was leased by a test of the given class: start its forensics, attribute its commands
+     * and block the requests the test does not need.
+     */
+    static void leased(WebDriver driver, Class<?> testClass, Optional<BlockResources> blocked) {
+        SessionRecorder.of(driver).ifPresent(recorder -> recorder.ring().clear());
+        CommandLatency.of(driver).ifPresent(latency -> latency.owner(testClass));
+        RequestBlocker.of(driver).ifPresent(blocker -> blocker.apply(blocked));
+    }
+
+    /**
+     * The session went back to the pool: its reset commands are not the test's.
+     */
+    static void released(WebDriver driver) {
+        CommandLatency.of(driver).ifPresent(latency -> latency.owner(null));
+    }
+}
@@ -0,0 +1,141 @@
+package com.una.selenium.tests.support.driver;
+
+import com.una.selenium.tests.support.report.RunReport;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.AddHasCasting;
+import org.openqa.selenium.chrome.AddHasCdp;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * One chromedriver process for the whole JVM, shared by every Chrome session.
+ *
+ * A regular {@code new ChromeDriver(service, options)} stops the service when the session quits,
+ * so each session would pay for a chromedriver start. Sessions created here talk to the shared
+ * service over plain HTTP; the service is stopped once, at JVM shutdown.
+ */
+public final class SharedChromeDriverService {
+
+    private static ChromeDriverService service;
+
+    private SharedChromeDriverService() {
+    }
+
+    /**
+     * Starts a new Chrome session on the shared chromedriver (starting it on first use).
+     * Unless the options choose a user-data-dir, the session starts from a copy of the {@link ProfileTemplate}.
+     * Options with a debuggerAddress attach the session to a running Chrome instead (see {@link BrowserContexts}).
+     */
+    public static WebDriver newSession(ChromeOptions options) {
+        boolean attaching = attaches(options);
+        String binary = System.getProperty("selenium.chrome.binary");
+        if (binary != null && !attaching) {
+            options.setBinary(binary);
+        }
+        Optional<Path> profile = attaching ? Optional.empty() : copyProfileTemplate(options);
+        long start = System.nanoTime();
+        try {
+            WebDriver driver = new SharedServiceChromeDriver(running(), options, profile.orElse(null));
+            if (!attaching) {
+                ProfileTemplate.started(profile.isPresent(), System.nanoTime() - start);
+            }
+            return driver;
+        } catch (RuntimeException e) {
+            profile.ifPresent(ProfileTemplate::delete);
+            throw e;
+        }
+    }
+
+    /**
+     * Points the options to a fresh copy of the {@link ProfileTemplate}, as {@link #newSession} does, for a session
+     * started on another chromedriver (e.g. a benchmark's own service); {@link #deleteProfileCopy} removes it after
+     * the session quits. Empty when templates are off (-Dselenium.profile.template=false), the options choose a
+     * user-data-dir or the template is unavailable.
+     */
+    public static Optional<Path> copyProfileTemplate(ChromeOptions options) {
+        return ProfileTemplate.enabled()
+                ? ProfileTemplate.shared().cloneInto(options, template -> new SharedServiceChromeDriver(running(), template, null))
+                : Optional.empty();
+    }
+
+    public static void deleteProfileCopy(Path copy) {
+        ProfileTemplate.delete(copy);
+    }
+
+    private static boolean attaches(ChromeOptions options) {
+        return options.asMap().get(ChromeOptions.CAPABILITY) instanceof Map<?, ?> chromeOptions
+                && chromeOptions.containsKey("debuggerAddress");
+    }
+
+    /**
+     * Stops the shared chromedriver now instead of at JVM shutdown (the next session starts a new one).
+     */
+    public static synchronized void stop() {
+        if (service != null) {
+            service.stop();
+            service = null;
+        }
+    }
+
+    private static synchronized ChromeDriverService running() {
+        if (service == null) {
+            ChromeDriverResolver.Resolution resolution = ChromeDriverResolver.resolve();
+            RunReport.register("Driver resolution", resolution::toString);
+            ChromeDriverService started = new ChromeDriverService.Builder()
+                    .usingDriverExecutable(resolution.driverPath().toFile())
+                    .usingAnyFreePort()
+                    .build();
+            try {
+                started.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start chromedriver " + resolution.driverPath(), e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(started::stop, "chromedriver-shutdown"));
+            service = started;
+        }
+        return service;
+    }
+
+    /**
+     * ChromeDriver equivalent (CDP, casting, DevTools) whose quit() ends the browser session
+     * but leaves the shared chromedriver running, and deletes the session's profile copy.
+     */
+    private static final class SharedServiceChromeDriver extends ChromiumDriver {
+
+        private final Path profileCopy;
+
+        SharedServiceChromeDriver(ChromeDriverService service, ChromeOptions options, Path profileCopy) {
+            super(new HttpCommandExecutor(chromeCommands(), service.getUrl()), options, ChromeOptions.CAPABILITY);
+            casting = new AddHasCasting().getImplementation(getCapabilities(), getExecuteMethod());
+            cdp = new AddHasCdp().getImplementation(getCapabilities(), getExecuteMethod());
+            this.profileCopy = profileCopy;
+        }
+
+        @Override
+        public void quit() {
+            try {
+                super.quit();
+            } finally {
+                if (profileCopy != null) {
+                    ProfileTemplate.delete(profileCopy);
+                }
+            }
+        }
+
+        private static Map<String, CommandInfo> chromeCommands() {
+            Map<String, CommandInfo> commands = new HashMap<>(new AddHasCdp().getAdditionalCommands());
+            commands.putAll(new AddHasCasting().getAdditionalCommands());
+            return commands;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.una.selenium.tests.support.fixture;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test that changes the state a {@link PageState} fixture restores (e.g. logs out, or submits a form that
+ * changes data on the server): after it, the class's page states are discarded and the next test builds them again.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface DirtiesPage {
+}
@@ -0,0 +1,126 @@
+package com.una.selenium.tests.support.fixture;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process HTTP server with deterministic copies of the Google pages used by the exercises:
+ * - /          homepage (title "Google", search box "q", "btnK" buttons, "About"/"Sobre" link)
+ * - /search    results page for ?q=..., with links to selenium.dev
+ * - /about     "About Google" page
+ *
+ * Started once per JVM on a free loopback port. Like Google, the "About" link text follows the
+ * browser's Accept-Language ("Sobre" for Portuguese, "About" otherwise).
+ */
+public final class FixtureServer {
+
+    private final HttpServer server;
+    private final Map<String, String> templates = new ConcurrentHashMap<>();
+
+    private FixtureServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the fixture server", e);
+        }
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        System.out.println("Fixture server started at " + baseUrl());
+    }
+
+    /**
+     * The JVM-wide server, started on first use.
+     */
+    public static FixtureServer get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Base URL without a trailing slash, e.g. http://127.0.0.1:41234
+     */
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            URI uri = exchange.getRequestURI();
+            boolean portuguese = acceptsPortuguese(exchange.getRequestHeaders().getFirst("Accept-Language"));
+            String page = switch (uri.getPath()) {
+                case "/" -> render("home.html", portuguese, "");
+                case "/search" -> render("results.html", portuguese, queryParameter(uri, "q"));
+                case "/about" -> render("about.html", portuguese, "");
+                default -> null;
+            };
+            if (page == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = page.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private String render(String template, boolean portuguese, String query) {
+        return templates.computeIfAbsent(template, FixtureServer::load)
+                .replace("{{lang}}", portuguese ? "pt" : "en")
+                .replace("{{aboutText}}", portuguese ? "Sobre" : "About")
+                .replace("{{query}}", escapeHtml(query));
+    }
+
+    private static String load(String template) {
+        try (InputStream in = FixtureServer.class.getResourceAsStream("/fixtures/google/" + template)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture page " + template);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean acceptsPortuguese(String acceptLanguage) {
+        return acceptLanguage != null && acceptLanguage.toLowerCase(Locale.ROOT).startsWith("pt");
+    }
+
+    private static String queryParameter(URI uri, String name) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return "";
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+
+    private static String escapeHtml(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static final class Holder {
+        static final FixtureServer INSTANCE = new FixtureServer();
+    }
+}
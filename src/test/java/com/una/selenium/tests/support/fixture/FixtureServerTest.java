@@ -0,0 +1,54 @@
+package com.una.selenium.tests.support.fixture;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the fixture pages keep the shape the exercises rely on (no browser needed).
+ */
+public class FixtureServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void homepageHasSearchBoxButtonsAndLocalizedAboutLink() throws Exception {
+        String english = get("/", "en-US,en;q=0.9");
+        assertTrue(english.contains("<title>Google</title>"));
+        assertTrue(english.contains("name=\"q\""));
+        assertTrue(english.contains("name=\"btnK\""));
+        assertTrue(english.contains(">About</a>"));
+
+        assertTrue(get("/", "pt-BR,pt;q=0.9").contains(">Sobre</a>"));
+    }
+
+    @Test
+    void resultsPageEchoesEscapedQueryAndLinksToSelenium() throws Exception {
+        String results = get("/search?q=Selenium+WebDriver%3Cb%3E", "en");
+        assertTrue(results.contains("<title>Selenium WebDriver&lt;b&gt; - Google Search</title>"), results);
+        assertTrue(results.contains("href=\"https://www.selenium.dev/\""));
+    }
+
+    @Test
+    void unknownPathIsNotFound() throws Exception {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(FixtureServer.get().baseUrl() + "/favicon.ico")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(404, response.statusCode());
+    }
+
+    private String get(String path, String acceptLanguage) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(FixtureServer.get().baseUrl() + path))
+                .header("Accept-Language", acceptLanguage)
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        return response.body();
+    }
+}
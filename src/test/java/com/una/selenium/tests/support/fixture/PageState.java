@@ -0,0 +1,181 @@
+package com.una.selenium.tests.support.fixture;
+
+import com.una.selenium.tests.support.report.RunReport;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Page state that an expensive navigation leads to (e.g. searching and waiting for the results), built once per
+ * test class and restored for each test, for tests that only read the page.
+ *
+ * The first {@link #restore} runs the navigation and saves where it ended: URL, cookies, local and session storage.
+ * The following ones (in other tests, on other pooled sessions) load the saved URL directly, with the saved cookies
+ * and storage (which costs one reload when there are any). If the site does not give the same URL back (a redirect,
+ * an expired session) the navigation runs again. Concurrent tests of the class wait for the first build instead of
+ * repeating it. A test that changes the state is annotated with {@link DirtiesPage} (or calls {@link #markDirty}).
+ *
+ * <pre>{@code
+ * @RegisterExtension
+ * static final PageState RESULTS = PageState.of("search results", driver -> { ... search and wait ... });
+ *
+ * @BeforeEach
+ * void setUp(WebDriver driver) {
+ *     RESULTS.restore(driver);
+ * }
+ * }</pre>
+ *
+ * The "Page state fixtures" report section compares the time of the builds with the time of the restores.
+ */
+public final class PageState implements AfterEachCallback, AfterAllCallback {
+
+    private static final String READ_STORAGE =
+            "const copy = s => { const o = {}; for (let i = 0; i < s.length; i++) { const k = s.key(i); o[k] = s.getItem(k); } return o; };"
+            + " try { return [copy(window.localStorage), copy(window.sessionStorage)]; } catch (e) { return [{}, {}]; }";
+    private static final String WRITE_STORAGE =
+            "for (const [k, v] of Object.entries(arguments[0])) window.localStorage.setItem(k, v);"
+            + " for (const [k, v] of Object.entries(arguments[1])) window.sessionStorage.setItem(k, v);";
+
+    private static final List<PageState> ALL = new CopyOnWriteArrayList<>();
+
+    static {
+        RunReport.register("Page state fixtures", PageState::report);
+    }
+
+    private final String name;
+    private final Consumer<WebDriver> navigation;
+    private Snapshot snapshot;
+
+    private final LongAdder builds = new LongAdder();
+    private final LongAdder buildNanos = new LongAdder();
+    private final LongAdder restores = new LongAdder();
+    private final LongAdder restoreNanos = new LongAdder();
+    private final LongAdder dirtied = new LongAdder();
+    private final LongAdder redirected = new LongAdder();
+
+    // Not listed in the run report: for unit tests of this class, whose fake pages are not part of the suite's work
+    PageState(String name, Consumer<WebDriver> navigation) {
+        this.name = name;
+        this.navigation = navigation;
+    }
+
+    /**
+     * A page state listed in the "Page state fixtures" report section.
+     */
+    public static PageState of(String name, Consumer<WebDriver> navigation) {
+        PageState state = new PageState(name, navigation);
+        ALL.add(state);
+        return state;
+    }
+
+    /**
+     * Brings the driver to the page state: from the snapshot if there is one, otherwise by running the navigation.
+     */
+    public void restore(WebDriver driver) {
+        Snapshot saved;
+        synchronized (this) {
+            if (snapshot == null) {
+                build(driver);
+                return;
+            }
+            saved = snapshot;
+        }
+        long start = System.nanoTime();
+        if (saved.applyTo(driver)) {
+            restores.increment();
+            restoreNanos.add(System.nanoTime() - start);
+            return;
+        }
+        redirected.increment();
+        synchronized (this) {
+            build(driver);
+        }
+    }
+
+    /**
+     * Discards the snapshot: the next test runs the navigation again.
+     */
+    public synchronized void markDirty() {
+        if (snapshot != null) {
+            dirtied.increment();
+        }
+        snapshot = null;
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        if (AnnotationSupport.isAnnotated(context.getTestMethod(), DirtiesPage.class)) {
+            markDirty();
+        }
+    }
+
+    @Override
+    public synchronized void afterAll(ExtensionContext context) {
+        // The state belongs to the class: a later run of the class starts from the real navigation
+        snapshot = null;
+    }
+
+    // Caller holds the lock, so concurrent tests wait for this build
+    private void build(WebDriver driver) {
+        long start = System.nanoTime();
+        navigation.accept(driver);
+        snapshot = Snapshot.take(driver);
+        builds.increment();
+        buildNanos.add(System.nanoTime() - start);
+    }
+
+    String summary() {
+        return String.format("%s: built=%d (avg %.0f ms), restored=%d (avg %.0f ms), dirtied=%d, redirected=%d",
+                name, builds.sum(), average(buildNanos, builds), restores.sum(), average(restoreNanos, restores),
+                dirtied.sum(), redirected.sum());
+    }
+
+    private static double average(LongAdder nanos, LongAdder count) {
+        return count.sum() == 0 ? 0 : nanos.sum() / 1_000_000.0 / count.sum();
+    }
+
+    static String report() {
+        return ALL.isEmpty() ? "none" : ALL.stream().map(PageState::summary).collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    private record Snapshot(String url, Set<Cookie> cookies, Map<?, ?> localStorage, Map<?, ?> sessionStorage) {
+
+        static Snapshot take(WebDriver driver) {
+            Object storage = ((JavascriptExecutor) driver).executeScript(READ_STORAGE);
+            List<?> both = storage instanceof List<?> list && list.size() == 2 ? list : List.of(Map.of(), Map.of());
+            return new Snapshot(driver.getCurrentUrl(), Set.copyOf(driver.manage().getCookies()),
+                    Map.copyOf((Map<?, ?>) both.get(0)), Map.copyOf((Map<?, ?>) both.get(1)));
+        }
+
+        // Returns false if the site answered with another page
+        boolean applyTo(WebDriver driver) {
+            driver.get(url);
+            if (!cookies.isEmpty() || !localStorage.isEmpty() || !sessionStorage.isEmpty()) {
+                // Cookies and storage can only be set on their own origin: set them, then load the page again with them
+                for (Cookie cookie : cookies) {
+                    try {
+                        driver.manage().addCookie(cookie);
+                    } catch (WebDriverException e) {
+                        // A cookie of another domain the navigation went through; the page does not need it
+                    }
+                }
+                ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE, localStorage, sessionStorage);
+                driver.navigate().refresh();
+            }
+            return url.equals(driver.getCurrentUrl());
+        }
+    }
+}
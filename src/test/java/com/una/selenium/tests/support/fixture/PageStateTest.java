@@ -0,0 +1,107 @@
+package com.una.selenium.tests.support.fixture;
+
+import com.una.selenium.tests.support.FakeDriver;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Build, restore and invalidation of PageState with fake sessions that log their commands (no browser needed).
+ */
+public class PageStateTest {
+
+    private final AtomicInteger searches = new AtomicInteger();
+
+    @Test
+    void searchesOnceAndRestoresUrlCookiesAndStorage() {
+        PageState results = new PageState("results", this::search);
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+
+        results.restore(fakeDriver(first, Map.of()));
+        results.restore(fakeDriver(second, Map.of()));
+
+        assertEquals(1, searches.get());
+        assertEquals(List.of("get /", "type", "get /search?q=selenium", "setCookie consent=yes"), first);
+        assertEquals(List.of("get /search?q=selenium", "addCookie consent=yes", "writeStorage {theme=dark}", "refresh"), second);
+        assertTrue(results.summary().startsWith("results: built=1"), results.summary());
+        assertTrue(results.summary().contains("restored=1"), results.summary());
+        assertTrue(PageState.report().lines().noneMatch(line -> line.startsWith("results:")),
+                "Fixtures of this test must not appear in the run report: " + PageState.report());
+    }
+
+    @Test
+    void dirtyStateOrRedirectRunsTheNavigationAgain() {
+        PageState results = new PageState("results", this::search);
+        results.restore(fakeDriver(new ArrayList<>(), Map.of()));
+
+        results.markDirty();
+        results.restore(fakeDriver(new ArrayList<>(), Map.of()));
+        assertEquals(2, searches.get());
+
+        // The site sends the saved URL to a consent page: the restored state would not be the same page
+        results.restore(fakeDriver(new ArrayList<>(), Map.of("/search?q=selenium", "/consent")));
+        assertEquals(3, searches.get());
+        assertTrue(results.summary().contains("dirtied=1, redirected=1"), results.summary());
+    }
+
+    private void search(WebDriver driver) {
+        searches.incrementAndGet();
+        driver.get("/");
+        ((JavascriptExecutor) driver).executeScript("type");
+        driver.get("/search?q=selenium");
+        ((JavascriptExecutor) driver).executeScript("setCookie");
+    }
+
+    // Fake session with one cookie jar and one storage; redirects maps a requested URL to the URL the site answers with
+    private WebDriver fakeDriver(List<String> log, Map<String, String> redirects) {
+        String[] url = {"about:blank"};
+        Set<Cookie> cookies = new LinkedHashSet<>();
+        WebDriver.Options options = FakeDriver.of(WebDriver.Options.class)
+                .on("addCookie", args -> {
+                    Cookie cookie = (Cookie) args[0];
+                    cookies.add(cookie);
+                    log.add("addCookie " + cookie.getName() + "=" + cookie.getValue());
+                    return null;
+                })
+                .returning("getCookies", cookies)
+                .build();
+        WebDriver.Navigation navigation = FakeDriver.of(WebDriver.Navigation.class)
+                .on("refresh", args -> log.add("refresh"))
+                .build();
+        return FakeDriver.driver().implementing(JavascriptExecutor.class)
+                .on("get", args -> {
+                    log.add("get " + args[0]);
+                    url[0] = redirects.getOrDefault((String) args[0], (String) args[0]);
+                    return null;
+                })
+                .on("getCurrentUrl", args -> url[0])
+                .returning("manage", options)
+                .returning("navigate", navigation)
+                .on("executeScript", args -> {
+                    String script = (String) args[0];
+                    if (script.equals("type")) {
+                        log.add("type");
+                    } else if (script.equals("setCookie")) {
+                        cookies.add(new Cookie("consent", "yes"));
+                        log.add("setCookie consent=yes");
+                    } else if (script.contains("setItem")) {
+                        log.add("writeStorage " + ((Object[]) args[1])[0]);
+                    } else if (script.contains("getItem")) {
+                        return List.of(Map.of("theme", "dark"), Map.of());
+                    }
+                    return null;
+                })
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.una.selenium.tests.support.fixture;
+
+import java.util.Locale;
+
+/**
+ * URLs of the site under test. The exercises run against the local {@link FixtureServer} by default
+ * (fast, offline, independent of Google's markup and locale); -Dselenium.site=live switches them
+ * back to the real www.google.com.
+ */
+public final class TestSite {
+
+    private TestSite() {
+    }
+
+    public static boolean isLive() {
+        return "live".equals(System.getProperty("selenium.site", "local").toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Google homepage (or its local fixture).
+     */
+    public static String homeUrl() {
+        return isLive() ? "https://www.google.com" : FixtureServer.get().baseUrl() + "/";
+    }
+
+    /**
+     * "About Google" page (or its local fixture).
+     */
+    public static String aboutUrl() {
+        return isLive() ? "https://about.google/" : FixtureServer.get().baseUrl() + "/about";
+    }
+}
@@ -0,0 +1,155 @@
+package com.una.selenium.tests.support.forensics;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fixed-size ring of the last N events of one browser session (WebDriver commands, console messages,
+ * network responses). Slots are preallocated parallel arrays: recording only stores references to objects that
+ * exist anyway (the Method and argument array the proxy created, the thrown exception, the event parameters
+ * DevTools decoded) plus the formatter that turns them into text, and two longs. Text is built only by
+ * {@link #dump()}, i.e. only when a test failed.
+ */
+public final class EventRing {
+
+    public enum Kind { COMMAND, ERROR, CONSOLE, NETWORK }
+
+    private final long[] atMillis;
+    private final long[] durationNanos;
+    private final Kind[] kinds;
+    private final Method[] methods;
+    private final Object[][] arguments;
+    // Raw event data (exception, DevTools parameters, text) and how to describe it; null format means String.valueOf
+    private final Object[] details;
+    private final Function<Object, String>[] formats;
+    // Total number of events recorded; the next slot is written % capacity
+    private long recorded;
+
+    @SuppressWarnings("unchecked")
+    public EventRing(int capacity) {
+        atMillis = new long[capacity];
+        durationNanos = new long[capacity];
+        kinds = new Kind[capacity];
+        methods = new Method[capacity];
+        arguments = new Object[capacity][];
+        details = new Object[capacity];
+        formats = new Function[capacity];
+    }
+
+    /**
+     * A WebDriver/WebElement call; {@code error} is null when it succeeded.
+     */
+    synchronized void command(Method method, Object[] args, long nanos, Throwable error) {
+        int slot = nextSlot();
+        kinds[slot] = error == null ? Kind.COMMAND : Kind.ERROR;
+        methods[slot] = method;
+        arguments[slot] = args;
+        durationNanos[slot] = nanos;
+        details[slot] = error;
+        formats[slot] = null;
+    }
+
+    /**
+     * A browser-side event (console message, network response), described by {@code format} when dumped.
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <T> void event(Kind kind, T detail, Function<? super T, String> format) {
+        int slot = nextSlot();
+        kinds[slot] = kind;
+        methods[slot] = null;
+        arguments[slot] = null;
+        durationNanos[slot] = 0;
+        details[slot] = detail;
+        formats[slot] = (Function<Object, String>) format;
+    }
+
+    /**
+     * An event that is already text.
+     */
+    synchronized void event(Kind kind, String text) {
+        event(kind, text, null);
+    }
+
+    /**
+     * Forgets everything (start of a new test). No I/O, no allocation.
+     */
+    public synchronized void clear() {
+        recorded = 0;
+        Arrays.fill(methods, null);
+        Arrays.fill(arguments, null);
+        Arrays.fill(details, null);
+        Arrays.fill(formats, null);
+    }
+
+    public synchronized long recorded() {
+        return recorded;
+    }
+
+    /**
+     * The retained events, oldest first, one per line.
+     */
+    public synchronized String dump() {
+        int capacity = kinds.length;
+        long first = Math.max(0, recorded - capacity);
+        StringBuilder out = new StringBuilder();
+        if (first > 0) {
+            out.append("(").append(first).append(" older events dropped)\n");
+        }
+        for (long i = first; i < recorded; i++) {
+            int slot = (int) (i % capacity);
+            out.append(Instant.ofEpochMilli(atMillis[slot])).append(' ')
+                    .append(String.format("%-8s", kinds[slot])).append(' ');
+            if (methods[slot] != null) {
+                out.append(methods[slot].getDeclaringClass().getSimpleName()).append('.')
+                        .append(methods[slot].getName()).append(describe(arguments[slot]))
+                        .append(String.format(" %.1f ms", durationNanos[slot] / 1_000_000.0));
+                if (details[slot] instanceof Throwable error) {
+                    out.append(" -> ").append(describe(error));
+                }
+            } else {
+                out.append(describe(details[slot], formats[slot]));
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    private int nextSlot() {
+        int slot = (int) (recorded++ % kinds.length);
+        atMillis[slot] = System.currentTimeMillis();
+        return slot;
+    }
+
+    private static String describe(Object detail, Function<Object, String> format) {
+        if (format == null) {
+            return String.valueOf(detail);
+        }
+        try {
+            return format.apply(detail);
+        } catch (RuntimeException e) {
+            // An event with an unexpected shape must not cost the rest of the dump
+            return "(unreadable event: " + e + ") " + detail;
+        }
+    }
+
+    private static String describe(Throwable error) {
+        String message = String.valueOf(error.getMessage()).lines().findFirst().orElse("");
+        return error.getClass().getSimpleName() + ": " + message;
+    }
+
+    private static String describe(Object[] args) {
+        if (args == null || args.length == 0) {
+            return "()";
+        }
+        return Arrays.stream(args).map(EventRing::shorten).collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    private static String shorten(Object arg) {
+        String text = arg instanceof Object[] array ? Arrays.deepToString(array) : String.valueOf(arg);
+        text = text.replace('\n', ' ');
+        return text.length() > 120 ? text.substring(0, 117) + "..." : text;
+    }
+}
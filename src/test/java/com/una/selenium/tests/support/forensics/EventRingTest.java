@@ -0,0 +1,59 @@
+package com.una.selenium.tests.support.forensics;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ring buffer wrap-around and dump format.
+ */
+public class EventRingTest {
+
+    @Test
+    void keepsOnlyTheLastEventsInOrder() throws Exception {
+        Method get = WebDriver.class.getMethod("get", String.class);
+        Method findElement = WebDriver.class.getMethod("findElement", By.class);
+        EventRing ring = new EventRing(3);
+
+        ring.command(get, new Object[]{"http://127.0.0.1/"}, 2_000_000, null);
+        ring.event(EventRing.Kind.NETWORK, "200 Document http://127.0.0.1/");
+        ring.event(EventRing.Kind.CONSOLE, "log hello");
+        ring.command(findElement, new Object[]{By.name("btnX")}, 1_500_000, new NoSuchElementException("no such element"));
+
+        String dump = ring.dump();
+        assertEquals(4, ring.recorded());
+        assertTrue(dump.startsWith("(1 older events dropped)"), dump);
+        assertFalse(dump.contains("WebDriver.get("), dump);
+        assertTrue(dump.indexOf("200 Document") < dump.indexOf("log hello"), dump);
+        assertTrue(dump.contains("WebDriver.findElement(By.name: btnX) 1.5 ms -> NoSuchElementException"), dump);
+    }
+
+    @Test
+    void formatsEventsOnlyWhenDumped() {
+        AtomicInteger formatted = new AtomicInteger();
+        EventRing ring = new EventRing(3);
+
+        ring.event(EventRing.Kind.NETWORK, Map.of("status", 404), params -> {
+            formatted.incrementAndGet();
+            return params.get("status") + " Image";
+        });
+
+        assertEquals(0, formatted.get(), "Recording must not build text");
+        assertTrue(ring.dump().contains("NETWORK  404 Image"), ring.dump());
+    }
+
+    @Test
+    void clearForgetsEverything() throws Exception {
+        EventRing ring = new EventRing(3);
+        ring.event(EventRing.Kind.CONSOLE, "log hello");
+        ring.clear();
+        assertEquals("", ring.dump());
+    }
+}
@@ -0,0 +1,112 @@
+package com.una.selenium.tests.support.forensics;
+
+import com.una.selenium.tests.support.driver.DriverPoolExtension;
+import com.una.selenium.tests.support.report.RunReport;
+import com.una.selenium.tests.support.screenshot.ScreenshotWriter;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes a forensics bundle when a test fails: one zip in target/selenium-reports/forensics with
+ * - summary.txt      test, failure, URL and title
+ * - events.txt       the last WebDriver commands (with timings), console messages and network responses ({@link EventRing})
+ * - page-source.html the DOM at the time of failure
+ * - screenshot.png   the capture a screenshot watcher stored through {@link ScreenshotWriter} for the same test
+ *                    execution (JUnit unique id); the page is only captured here when there is none
+ *
+ * Successful tests cost nothing here: the ring is simply cleared when the session is leased again.
+ * Register it after {@link DriverPoolExtension} ({@code @ExtendWith({DriverPoolExtension.class, FailureForensicsExtension.class})}),
+ * so it runs while the failing page is still open. TestWatchers are called in reverse registration order, so a watcher
+ * registered on a field ({@code @RegisterExtension}) runs before this one and its capture is reused.
+ */
+public class FailureForensicsExtension implements TestWatcher {
+
+    private static final List<Path> BUNDLES = new CopyOnWriteArrayList<>();
+
+    static {
+        RunReport.register("Failure forensics", () -> BUNDLES.isEmpty() ? "no bundles"
+                : BUNDLES.size() + " bundle(s):\n" + String.join("\n", BUNDLES.stream().map(Path::toString).toList()));
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        WebDriver driver = DriverPoolExtension.driverOf(context).orElse(null);
+        if (driver == null) {
+            return;
+        }
+        String testId = context.getRequiredTestClass().getSimpleName() + "#"
+                + context.getTestMethod().map(method -> method.getName()).orElse("unknown_test");
+        Path bundle = RunReport.directory().resolve("forensics")
+                .resolve(testId.replaceAll("[^A-Za-z0-9._#-]", "_") + "_" + System.currentTimeMillis() + ".zip");
+        try {
+            Files.createDirectories(bundle.getParent());
+            try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(bundle))) {
+                // Dumped before this extension sends its own commands through the recorded driver
+                String events = SessionRecorder.of(driver).map(recorder -> recorder.ring().dump())
+                        .orElse("(session not recorded: -Dselenium.forensics=false or an in-process session)\n");
+                write(zip, "summary.txt", summary(testId, driver, cause).getBytes(StandardCharsets.UTF_8));
+                write(zip, "events.txt", events.getBytes(StandardCharsets.UTF_8));
+                // The browser may be the reason of the failure: collect what is still available
+                try {
+                    write(zip, "page-source.html", driver.getPageSource().getBytes(StandardCharsets.UTF_8));
+                } catch (RuntimeException e) {
+                    write(zip, "page-source.error.txt", e.toString().getBytes(StandardCharsets.UTF_8));
+                }
+                // A screenshot watcher usually captured the page already: copy its blob instead of asking the browser again
+                Optional<Path> captured = ScreenshotWriter.shared().takeCapture(context.getUniqueId(),
+                        Duration.ofSeconds(10));
+                if (captured.isPresent()) {
+                    write(zip, "screenshot.png", Files.readAllBytes(captured.get()));
+                } else if (driver instanceof TakesScreenshot screenshots) {
+                    try {
+                        write(zip, "screenshot.png", screenshots.getScreenshotAs(OutputType.BYTES));
+                    } catch (RuntimeException e) {
+                        write(zip, "screenshot.error.txt", e.toString().getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+            }
+            BUNDLES.add(bundle);
+            System.out.println("Forensics bundle for " + testId + ": " + bundle.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Error writing forensics bundle " + bundle + ": " + e.getMessage());
+        }
+    }
+
+    private static String summary(String testId, WebDriver driver, Throwable cause) {
+        StringWriter out = new StringWriter();
+        PrintWriter printer = new PrintWriter(out);
+        printer.println("test:  " + testId);
+        try {
+            printer.println("url:   " + driver.getCurrentUrl());
+            printer.println("title: " + driver.getTitle());
+        } catch (RuntimeException e) {
+            printer.println("page:  unavailable (" + e.getMessage() + ")");
+        }
+        printer.println();
+        cause.printStackTrace(printer);
+        printer.flush();
+        return out.toString();
+    }
+
+    private static void write(ZipOutputStream zip, String name, byte[] content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content);
+        zip.closeEntry();
+    }
+}
@@ -0,0 +1,159 @@
+package com.una.selenium.tests.support.forensics;
+
+import com.una.selenium.tests.support.devtools.TabDevTools;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Records what happens in one browser session into an {@link EventRing}: every WebDriver/WebElement call
+ * with its duration (as a listener of the session's {@link org.openqa.selenium.support.events.EventFiringDecorator},
+ * see SessionInstrumentation), plus console messages, JavaScript exceptions and network responses streamed
+ * over the DevTools protocol from the session's own tab ({@link TabDevTools}).
+ *
+ * Configuration: -Dselenium.forensics=false disables recording, -Dselenium.forensics.ring=200 sets the ring size,
+ * -Dselenium.forensics.devtools=false keeps only the WebDriver commands.
+ */
+public final class SessionRecorder implements WebDriverListener {
+
+    private static final Map<WebDriver, SessionRecorder> RECORDERS = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private final EventRing ring;
+    // Start time of the call in progress on this thread (listener callbacks are not nested)
+    private final ThreadLocal<long[]> callStart = ThreadLocal.withInitial(() -> new long[1]);
+
+    private SessionRecorder(EventRing ring) {
+        this.ring = ring;
+    }
+
+    /**
+     * Recorder for a new, not yet decorated session (starts streaming its browser events);
+     * empty if recording is disabled.
+     */
+    public static Optional<SessionRecorder> create(WebDriver driver) {
+        if (!Boolean.parseBoolean(System.getProperty("selenium.forensics", "true"))) {
+            return Optional.empty();
+        }
+        SessionRecorder recorder = new SessionRecorder(new EventRing(Integer.getInteger("selenium.forensics.ring", 200)));
+        if (Boolean.parseBoolean(System.getProperty("selenium.forensics.devtools", "true"))) {
+            recorder.streamBrowserEvents(driver);
+        }
+        return Optional.of(recorder);
+    }
+
+    /**
+     * Links the recorder to the decorated driver that tests receive, for {@link #of}.
+     */
+    public void register(WebDriver decorated) {
+        RECORDERS.put(decorated, this);
+    }
+
+    /**
+     * The recorder of a registered driver, if any.
+     */
+    public static Optional<SessionRecorder> of(WebDriver driver) {
+        return Optional.ofNullable(RECORDERS.get(driver));
+    }
+
+    public EventRing ring() {
+        return ring;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        callStart.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        ring.command(method, args, System.nanoTime() - callStart.get()[0], null);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        ring.command(method, args, System.nanoTime() - callStart.get()[0], e.getCause() != null ? e.getCause() : e);
+    }
+
+    @Override
+    public void beforeQuit(WebDriver driver) {
+        RECORDERS.values().remove(this);
+    }
+
+    private void streamBrowserEvents(WebDriver driver) {
+        if (!(driver instanceof HasDevTools hasDevTools)) {
+            return;
+        }
+        try {
+            Optional<TabDevTools> maybeDevTools = TabDevTools.attach(hasDevTools, driver.getWindowHandle());
+            if (maybeDevTools.isEmpty()) {
+                return;
+            }
+            TabDevTools devTools = maybeDevTools.get();
+            for (String domain : List.of("Runtime", "Log", "Network")) {
+                devTools.send(domain + ".enable", Map.of());
+            }
+            // The decoded parameters are kept as they are: text is only made if the test fails
+            devTools.listen("Runtime.consoleAPICalled", params ->
+                    ring.event(EventRing.Kind.CONSOLE, params, SessionRecorder::consoleCall));
+            devTools.listen("Runtime.exceptionThrown", params ->
+                    ring.event(EventRing.Kind.CONSOLE, params, SessionRecorder::exception));
+            devTools.listen("Log.entryAdded", params ->
+                    ring.event(EventRing.Kind.CONSOLE, params, SessionRecorder::logEntry));
+            devTools.listen("Network.responseReceived", params ->
+                    ring.event(EventRing.Kind.NETWORK, params, SessionRecorder::response));
+            devTools.listen("Network.loadingFailed", params ->
+                    ring.event(EventRing.Kind.NETWORK, params, SessionRecorder::loadingFailed));
+        } catch (RuntimeException e) {
+            // Forensics must never break a session: keep recording WebDriver commands only
+            ring.event(EventRing.Kind.ERROR, "DevTools events unavailable: " + e.getMessage());
+        }
+    }
+
+    private static String consoleCall(Map<String, Object> params) {
+        return params.get("type") + " " + firstValue(params.get("args"));
+    }
+
+    private static String exception(Map<String, Object> params) {
+        return "exception " + describeException(params.get("exceptionDetails"));
+    }
+
+    private static String logEntry(Map<String, Object> params) {
+        Map<?, ?> entry = (Map<?, ?>) params.get("entry");
+        return entry.get("level") + " " + entry.get("text") + " " + entry.get("url");
+    }
+
+    private static String response(Map<String, Object> params) {
+        Map<?, ?> response = (Map<?, ?>) params.get("response");
+        return response.get("status") + " " + params.get("type") + " " + response.get("url");
+    }
+
+    private static String loadingFailed(Map<String, Object> params) {
+        return "failed " + params.get("type") + " " + params.get("errorText");
+    }
+
+    private static String firstValue(Object args) {
+        if (args instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof Map<?, ?> first) {
+            return String.valueOf(first.containsKey("value") ? first.get("value") : first.get("description"));
+        }
+        return "";
+    }
+
+    private static String describeException(Object details) {
+        if (!(details instanceof Map<?, ?> map)) {
+            return String.valueOf(details);
+        }
+        Object exception = map.get("exception");
+        if (exception instanceof Map<?, ?> thrown && thrown.get("description") != null) {
+            return String.valueOf(thrown.get("description")).lines().findFirst().orElse("");
+        }
+        return String.valueOf(map.get("text"));
+    }
+}
@@ -0,0 +1,139 @@
+package com.una.selenium.tests.support.locator;
+
+import com.una.selenium.tests.support.script.LocatorScript;
+import com.una.selenium.tests.support.wait.ReadyConditions;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Alternative locators for the same element, e.g. a link whose text depends on the locale:
+ *
+ * <pre>
+ * WebElement about = LocatorChain.named("about-link")
+ *         .or(By.linkText("Sobre"))
+ *         .or(By.linkText("About"))
+ *         .findClickable(driver, wait);
+ * </pre>
+ *
+ * All alternatives are checked in one script call, so a miss costs nothing instead of a full wait timeout.
+ * The alternative that matched is remembered per page and locale ({@link LocatorMemory}) and is tried first
+ * next time; otherwise the declaration order decides. If nothing matches yet, the chain waits for any of them.
+ */
+public final class LocatorChain {
+
+    private static final String PROBE_SCRIPT = LocatorScript.FIND_FUNCTION + """
+            var candidates = arguments[0], remembered = arguments[1];
+            var page = window.location.hostname + window.location.pathname;
+            var locale = document.documentElement.lang || navigator.language || '';
+            var first = remembered[page + '|' + locale];
+            var order = candidates.map(function (c, i) { return i; });
+            if (first !== undefined) {
+              order.sort(function (a, b) { return (candidates[b].name === first) - (candidates[a].name === first); });
+            }
+            for (var i = 0; i < order.length; i++) {
+              var candidate = candidates[order[i]];
+              if (!candidate.locator) { continue; }
+              var match = __find(candidate.locator).filter(function (el) { return __visible(el) && !el.disabled; })[0];
+              if (match) {
+                return {index: order[i], element: match, page: page, locale: locale, remembered: candidate.name === first};
+              }
+            }
+            return {index: -1, page: page, locale: locale};
+            """;
+
+    private final String name;
+    private final List<By> candidates = new ArrayList<>();
+    private final LocatorMemory memory;
+
+    LocatorChain(String name, LocatorMemory memory) {
+        this.name = name;
+        this.memory = memory;
+    }
+
+    /**
+     * New chain; the name identifies it in the locator memory, so it must be stable between runs.
+     */
+    public static LocatorChain named(String name) {
+        return new LocatorChain(name, LocatorMemory.shared());
+    }
+
+    public LocatorChain or(By candidate) {
+        candidates.add(candidate);
+        return this;
+    }
+
+    /**
+     * The first visible and enabled match, checking all alternatives at once; empty if none matches right now.
+     */
+    public Optional<WebElement> findClickableNow(WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor executor)) {
+            return slowPath(driver);
+        }
+        List<Map<String, Object>> specs = new ArrayList<>();
+        boolean allInPage = true;
+        for (By candidate : candidates) {
+            Optional<Map<String, Object>> spec = LocatorScript.toSpec(candidate);
+            // Custom locators have no in-page form and are only checked by the slow path
+            allInPage &= spec.isPresent();
+            specs.add(Map.of("name", candidate.toString(), "locator", spec.map(Object.class::cast).orElse(false)));
+        }
+        Map<?, ?> probe;
+        try {
+            probe = (Map<?, ?>) executor.executeScript(PROBE_SCRIPT, specs, memory.winnersOf(name));
+        } catch (UnsupportedOperationException e) {
+            // JavascriptExecutor with scripting off (in-process tier)
+            return slowPath(driver);
+        }
+        int index = ((Number) probe.get("index")).intValue();
+        if (index < 0) {
+            return allInPage ? Optional.empty() : slowPath(driver);
+        }
+        memory.record(key(probe.get("page"), probe.get("locale")), candidates.get(index).toString(),
+                Boolean.TRUE.equals(probe.get("remembered")));
+        return Optional.of((WebElement) probe.get("element"));
+    }
+
+    /**
+     * Like {@link #findClickableNow}, but waits (up to the wait's timeout) for any alternative to become clickable.
+     * Throws the wait's TimeoutException if none does.
+     */
+    public WebElement findClickable(WebDriver driver, WebDriverWait wait) {
+        Optional<WebElement> now = findClickableNow(driver);
+        if (now.isPresent()) {
+            return now.get();
+        }
+        memory.recordWait();
+        WebElement element = wait.until(ReadyConditions.anyElementToBeClickable(candidates.toArray(By[]::new)));
+        // Learn which alternative it was; the element is already there, so this is a single call
+        return findClickableNow(driver).orElse(element);
+    }
+
+    // Without JavaScript (or for custom locators): regular lookups, declaration order
+    private Optional<WebElement> slowPath(WebDriver driver) {
+        for (By candidate : candidates) {
+            for (WebElement element : driver.findElements(candidate)) {
+                if (element.isDisplayed() && element.isEnabled()) {
+                    return Optional.of(element);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private String key(Object page, Object locale) {
+        return name + "|" + page + "|" + locale;
+    }
+
+    @Override
+    public String toString() {
+        return "LocatorChain " + name + " " + candidates;
+    }
+}
@@ -0,0 +1,101 @@
+package com.una.selenium.tests.support.locator;
+
+import com.una.selenium.tests.support.FakeDriver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the winner bookkeeping of LocatorChain/LocatorMemory with a fake driver (no browser needed).
+ */
+public class LocatorChainTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<Object> rememberedArguments = new ArrayList<>();
+
+    @Test
+    void remembersWinnerAcrossRunsAndPassesItToThePage() {
+        Path file = tempDir.resolve("locator-memory.properties");
+        WebElement link = fakeElement();
+        WebDriver driver = scriptDriver(Map.of("index", 1L, "element", link, "page", "127.0.0.1/", "locale", "en",
+                "remembered", false));
+
+        LocatorChain firstRun = new LocatorChain("about-link", new LocatorMemory(file))
+                .or(By.linkText("Sobre"))
+                .or(By.linkText("About"));
+        assertSame(link, firstRun.findClickableNow(driver).orElseThrow());
+
+        // A new memory reads the file, like the next test run would
+        LocatorMemory nextRun = new LocatorMemory(file);
+        assertEquals(Map.of("127.0.0.1/|en", "By.linkText: About"), nextRun.winnersOf("about-link"));
+        new LocatorChain("about-link", nextRun).or(By.linkText("Sobre")).or(By.linkText("About")).findClickableNow(driver);
+        assertEquals(Map.of("127.0.0.1/|en", "By.linkText: About"), rememberedArguments.get(1));
+    }
+
+    @Test
+    void reportsNoMatchWithoutWaiting() {
+        WebDriver driver = scriptDriver(Map.of("index", -1L, "page", "127.0.0.1/", "locale", "en"));
+        LocatorMemory memory = new LocatorMemory(tempDir.resolve("memory.properties"));
+
+        assertTrue(new LocatorChain("missing", memory).or(By.id("a")).or(By.id("b")).findClickableNow(driver).isEmpty());
+        assertTrue(memory.winnersOf("missing").isEmpty());
+    }
+
+    @Test
+    void keepsWinnerForThisRunWhenTheFileCannotBeWritten() throws IOException {
+        // The memory's directory is a plain file: nothing can be written below it
+        Path notADirectory = Files.writeString(tempDir.resolve("not-a-directory"), "");
+        LocatorMemory memory = new LocatorMemory(notADirectory.resolve("locator-memory.properties"));
+        WebDriver driver = scriptDriver(Map.of("index", 0L, "element", fakeElement(), "page", "127.0.0.1/", "locale", "en",
+                "remembered", false));
+
+        assertTrue(new LocatorChain("about-link", memory).or(By.linkText("About")).findClickableNow(driver).isPresent());
+        assertEquals(Map.of("127.0.0.1/|en", "By.linkText: About"), memory.winnersOf("about-link"));
+    }
+
+    @Test
+    void fallsBackToLookupsWhenScriptsAreOff() {
+        WebElement link = FakeDriver.of(WebElement.class).named("about link")
+                .returning("isDisplayed", true)
+                .returning("isEnabled", true)
+                .build();
+        WebDriver driver = FakeDriver.driver().implementing(JavascriptExecutor.class).strict()
+                .on("executeScript", args -> {
+                    throw new UnsupportedOperationException("Javascript is disabled for this driver");
+                })
+                .on("findElements", args -> args[0].equals(By.linkText("About")) ? List.of(link) : List.of())
+                .build();
+
+        LocatorChain chain = new LocatorChain("about-link", new LocatorMemory(tempDir.resolve("memory.properties")))
+                .or(By.linkText("Sobre"))
+                .or(By.linkText("About"));
+        assertSame(link, chain.findClickableNow(driver).orElseThrow());
+    }
+
+    private WebDriver scriptDriver(Map<String, Object> probeResult) {
+        return FakeDriver.driver().implementing(JavascriptExecutor.class).strict()
+                .on("executeScript", args -> {
+                    rememberedArguments.add(((Object[]) args[1])[1]);
+                    return probeResult;
+                })
+                .build();
+    }
+
+    private WebElement fakeElement() {
+        return FakeDriver.of(WebElement.class).named("about link").build();
+    }
+}
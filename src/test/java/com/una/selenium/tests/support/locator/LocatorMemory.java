@@ -0,0 +1,131 @@
+package com.una.selenium.tests.support.locator;
+
+import com.una.selenium.tests.support.report.RunReport;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers which alternative of a {@link LocatorChain} matched, per chain, page and locale, and keeps it
+ * between runs in a small properties file (-Dselenium.locator.memory, default ~/.cache/selenium/locator-memory.properties).
+ *
+ * Keys look like {@code about-link|127.0.0.1/|en-US}, values are the winning locator ({@code By.linkText: About}).
+ * The file is rewritten (atomically) only when a winner changes, which normally happens once per page and locale.
+ * The memory is only an optimisation: if the file cannot be written the winners are kept for this run only.
+ */
+public final class LocatorMemory {
+
+    private final Path file;
+    private final Map<String, String> winners = new TreeMap<>();
+
+    private final LongAdder rememberedHits = new LongAdder();
+    private final LongAdder learned = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+
+    LocatorMemory(Path file) {
+        this.file = file;
+        load();
+    }
+
+    /**
+     * The JVM-wide memory, loaded on first use.
+     */
+    public static LocatorMemory shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * All remembered winners of one chain, keyed by "page|locale" (passed to the in-page lookup).
+     */
+    synchronized Map<String, String> winnersOf(String chain) {
+        Map<String, String> result = new TreeMap<>();
+        String prefix = chain + "|";
+        winners.forEach((key, winner) -> {
+            if (key.startsWith(prefix)) {
+                result.put(key.substring(prefix.length()), winner);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Records the locator that matched; persists only if it differs from the remembered one.
+     */
+    synchronized void record(String key, String winner, boolean wasRemembered) {
+        if (wasRemembered) {
+            rememberedHits.increment();
+        }
+        if (winner.equals(winners.put(key, winner))) {
+            return;
+        }
+        learned.increment();
+        save();
+    }
+
+    void recordWait() {
+        waited.increment();
+    }
+
+    String report() {
+        return String.format("remembered winner used=%d, winners learned=%d, lookups that had to wait=%d (file: %s)",
+                rememberedHits.sum(), learned.sum(), waited.sum(), file);
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(in);
+        } catch (IOException e) {
+            // A corrupt memory only costs one slower lookup per page: start from scratch
+            System.err.println("Ignoring unreadable locator memory " + file + ": " + e.getMessage());
+            return;
+        }
+        properties.stringPropertyNames().forEach(key -> winners.put(key, properties.getProperty(key)));
+    }
+
+    private void save() {
+        Properties properties = new Properties();
+        properties.putAll(winners);
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "locator-memory", ".tmp");
+            try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                properties.store(out, "Winning LocatorChain alternatives (chain|page|locale)");
+            }
+            // Parallel JVMs (e.g. shards) may write the same file: last one wins, never a half-written file
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Only the next run's first lookups get slower: never fail the test that found the winner
+            System.err.println("Could not save locator memory " + file + ": " + e);
+        }
+    }
+
+    static Path defaultFile() {
+        String configured = System.getProperty("selenium.locator.memory");
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".cache", "selenium", "locator-memory.properties");
+    }
+
+    private static final class Holder {
+        static final LocatorMemory INSTANCE = new LocatorMemory(defaultFile());
+
+        static {
+            RunReport.register("Locator chains", INSTANCE::report);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.una.selenium.tests.support.metrics;
+
+import com.una.selenium.tests.support.report.RunReport;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency of every WebDriver command, per test class and command ({@code WebDriver.get}, {@code WebElement.click},
+ * {@code Navigation.back}...), in {@link LatencyHistogram}s. One instance listens to one session; the session's
+ * owner (the class of the test that leased it) is set on every lease, commands issued by the pool between tests
+ * are counted under "(pool)". Each backend (chrome, htmlunit) has its own histograms: an in-process HtmlUnit call
+ * takes microseconds and would make browser round trips look cheaper than they are.
+ *
+ * At the end of the run the "Command latency" report section lists the most expensive commands, and
+ * target/selenium-reports/command-latency.json holds all histograms. -Dselenium.metrics=false disables it.
+ */
+public final class CommandLatency implements WebDriverListener {
+
+    private static final String POOL_OWNER = "(pool)";
+    private static final Map<Key, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, CommandLatency> SESSIONS = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    static {
+        RunReport.register("Command latency", CommandLatency::report);
+    }
+
+    private final String backend;
+    private volatile String owner = POOL_OWNER;
+    // Start time of the call in progress on this thread (listener callbacks are not nested)
+    private final ThreadLocal<long[]> callStart = ThreadLocal.withInitial(() -> new long[1]);
+
+    record Key(String backend, String testClass, String command) {
+    }
+
+    private CommandLatency(String backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * Listener for a new session of the given backend; empty if metrics are disabled.
+     */
+    public static Optional<CommandLatency> create(String backend) {
+        return Boolean.parseBoolean(System.getProperty("selenium.metrics", "true"))
+                ? Optional.of(new CommandLatency(backend)) : Optional.empty();
+    }
+
+    /**
+     * Links the listener to the decorated driver that tests receive, for {@link #of}.
+     */
+    public void register(WebDriver decorated) {
+        SESSIONS.put(decorated, this);
+    }
+
+    public static Optional<CommandLatency> of(WebDriver driver) {
+        return Optional.ofNullable(SESSIONS.get(driver));
+    }
+
+    /**
+     * Attributes the following commands to this test class (null: back to the pool).
+     */
+    public void owner(Class<?> testClass) {
+        owner = testClass == null ? POOL_OWNER : testClass.getSimpleName();
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        callStart.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(method, System.nanoTime() - callStart.get()[0]);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(method, System.nanoTime() - callStart.get()[0]);
+    }
+
+    @Override
+    public void beforeQuit(WebDriver driver) {
+        SESSIONS.values().remove(this);
+    }
+
+    private void record(Method method, long nanos) {
+        // Histograms are created once per (class, command); the lookup key is short-lived
+        HISTOGRAMS.computeIfAbsent(new Key(backend, owner, commandName(method)), key -> new LatencyHistogram()).record(nanos);
+    }
+
+    static String commandName(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    static String report() {
+        if (HISTOGRAMS.isEmpty()) {
+            return "no commands";
+        }
+        List<Map.Entry<Key, LatencyHistogram>> entries = sortedByTotal();
+        StringBuilder out = new StringBuilder(String.format("%-9s %-28s %-26s %7s %10s %9s %9s %9s %9s%n",
+                "backend", "class", "command", "count", "total ms", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        entries.stream().limit(25).forEach(entry -> {
+            LatencyHistogram histogram = entry.getValue();
+            out.append(String.format(Locale.ROOT, "%-9s %-28s %-26s %7d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    entry.getKey().backend(), entry.getKey().testClass(), entry.getKey().command(), histogram.count(),
+                    histogram.totalNanos() / 1_000_000.0, histogram.percentileMicros(50) / 1_000.0,
+                    histogram.percentileMicros(90) / 1_000.0, histogram.percentileMicros(99) / 1_000.0,
+                    histogram.maxNanos() / 1_000_000.0));
+        });
+        if (entries.size() > 25) {
+            out.append("... ").append(entries.size() - 25).append(" more\n");
+        }
+        Path json = RunReport.directory().resolve("command-latency.json");
+        try {
+            Files.createDirectories(json.getParent());
+            Files.writeString(json, json(entries));
+            out.append("Full histograms: ").append(json);
+        } catch (IOException e) {
+            out.append("Could not write ").append(json).append(": ").append(e.getMessage());
+        }
+        return out.toString();
+    }
+
+    static String json(List<Map.Entry<Key, LatencyHistogram>> entries) {
+        List<String> items = new ArrayList<>();
+        for (Map.Entry<Key, LatencyHistogram> entry : entries) {
+            LatencyHistogram histogram = entry.getValue();
+            items.add(String.format(Locale.ROOT,
+                    "  {\"backend\": \"%s\", \"class\": \"%s\", \"command\": \"%s\", \"count\": %d, \"totalMs\": %.3f, "
+                            + "\"p50Ms\": %.3f, \"p90Ms\": %.3f, \"p99Ms\": %.3f, \"maxMs\": %.3f}",
+                    entry.getKey().backend(), entry.getKey().testClass(), entry.getKey().command(), histogram.count(),
+                    histogram.totalNanos() / 1_000_000.0, histogram.percentileMicros(50) / 1_000.0,
+                    histogram.percentileMicros(90) / 1_000.0, histogram.percentileMicros(99) / 1_000.0,
+                    histogram.maxNanos() / 1_000_000.0));
+        }
+        return "[\n" + String.join(",\n", items) + "\n]\n";
+    }
+
+    private static List<Map.Entry<Key, LatencyHistogram>> sortedByTotal() {
+        List<Map.Entry<Key, LatencyHistogram>> entries = new ArrayList<>(HISTOGRAMS.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<Key, LatencyHistogram> entry) -> entry.getValue().totalNanos()).reversed());
+        return entries;
+    }
+}
@@ -0,0 +1,82 @@
+package com.una.selenium.tests.support.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with fixed memory (128 counters).
+ *
+ * Buckets are log-linear over microseconds: 4 buckets per power of two, so a bucket is at most ~19% wide
+ * and values from 1 µs up to ~70 minutes are covered. Recording is a few bit operations and one atomic increment;
+ * percentiles are reported as the upper bound of their bucket.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = 32 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        counts.incrementAndGet(bucket(nanos / 1_000));
+        totalNanos.add(nanos);
+        if (nanos > maxNanos.get()) {
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Upper bound (in microseconds) of the bucket holding the given percentile, capped at the observed maximum.
+     */
+    public long percentileMicros(double percentile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundMicros(i), Math.max(1, maxNanos.get() / 1_000));
+            }
+        }
+        return maxNanos.get() / 1_000;
+    }
+
+    static int bucket(long micros) {
+        long value = Math.max(1, micros);
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = exponent >= SUB_BUCKET_BITS
+                ? (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1)
+                : (int) (value << (SUB_BUCKET_BITS - exponent)) & (SUB_BUCKETS - 1);
+        return Math.min(BUCKETS - 1, exponent * SUB_BUCKETS + subBucket);
+    }
+
+    static long upperBoundMicros(int bucket) {
+        int exponent = bucket / SUB_BUCKETS;
+        int subBucket = bucket % SUB_BUCKETS;
+        // Bucket covers [(4 + sub) * 2^e / 4, (5 + sub) * 2^e / 4)
+        return Math.max(1, ((long) (SUB_BUCKETS + subBucket + 1) << exponent) / SUB_BUCKETS);
+    }
+}
@@ -0,0 +1,47 @@
+package com.una.selenium.tests.support.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bucket layout and percentile estimates of the command latency histogram.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    void bucketsStayWithinTwentyPercent() {
+        for (long micros = 1; micros < 100_000_000L; micros = micros * 3 / 2 + 1) {
+            long upper = LatencyHistogram.upperBoundMicros(LatencyHistogram.bucket(micros));
+            assertTrue(upper >= micros, micros + " above its bucket bound " + upper);
+            assertTrue(upper <= Math.max(micros + 1, micros * 1.25), micros + " in a bucket up to " + upper);
+        }
+    }
+
+    @Test
+    void percentilesFromConcurrentRecording() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        try (ExecutorService threads = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 4; t++) {
+                threads.submit(() -> {
+                    // 90 fast commands (1 ms) and 10 slow ones (100 ms) per thread
+                    for (int i = 0; i < 90; i++) {
+                        histogram.record(1_000_000);
+                    }
+                    for (int i = 0; i < 10; i++) {
+                        histogram.record(100_000_000);
+                    }
+                });
+            }
+        }
+
+        assertEquals(400, histogram.count());
+        assertEquals(100_000_000, histogram.maxNanos());
+        assertEquals(1.0, histogram.percentileMicros(50) / 1_000.0, 0.2);
+        assertEquals(1.0, histogram.percentileMicros(90) / 1_000.0, 0.2);
+        assertEquals(100.0, histogram.percentileMicros(99) / 1_000.0, 0.1);
+    }
+}
@@ -0,0 +1,25 @@
+package com.una.selenium.tests.support.network;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests the browser must not make while the test runs: whole resource types and/or URL patterns
+ * (DevTools wildcards: {@code *} matches any characters, {@code ?} one character). Applied by
+ * {@link com.una.selenium.tests.support.driver.DriverPoolExtension} to the leased session through
+ * {@link RequestBlocker}; a method annotation wins over the class annotation.
+ *
+ * Example: {@code @BlockResources(types = {IMAGE, FONT, MEDIA}, urls = "*google-analytics.com*")}
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface BlockResources {
+
+    ResourceType[] types() default {};
+
+    String[] urls() default {};
+}
@@ -0,0 +1,187 @@
+package com.una.selenium.tests.support.network;
+
+import com.una.selenium.tests.support.devtools.TabDevTools;
+import com.una.selenium.tests.support.report.RunReport;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Blocks the requests of one browser session according to the {@link BlockResources} of the test that leased it.
+ *
+ * Uses DevTools Fetch interception: Fetch.enable with one pattern per blocked type or URL makes the browser pause
+ * only the matching requests, which are then failed with BlockedByClient (everything else never leaves the browser's
+ * network stack). The rules change when the next test leases the session: interception is switched off for a test
+ * without rules, and left as is when the next test has the same rules. Interception is set up on the session's own
+ * tab, so sessions sharing a Chrome process ({@link com.una.selenium.tests.support.driver.BrowserContexts}) each
+ * keep their own rules.
+ *
+ * The "Blocked requests" report section counts the blocked requests per resource type and the bytes they would have
+ * cost. The size of a blocked request is only known if a session with blocking set up loaded the same URL earlier in
+ * the run (Network.loadingFinished), so the byte count is a lower bound. -Dselenium.block=false disables blocking.
+ */
+public final class RequestBlocker implements WebDriverListener {
+
+    private static final Map<WebDriver, RequestBlocker> BLOCKERS = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final Stats STATS = new Stats();
+    // Encoded size of the responses browsers did load, by URL; capped so a long run cannot grow it without bound
+    private static final int MAX_KNOWN_SIZES = 20_000;
+    private static final Map<String, Long> KNOWN_SIZES = new ConcurrentHashMap<>();
+
+    static {
+        RunReport.register("Blocked requests", STATS::report);
+    }
+
+    private final WebDriver driver;
+    // DevTools session of a tab of the browser, by window handle
+    private final Function<String, Optional<TabDevTools>> tabs;
+    private final Map<String, String> loadingUrls = new ConcurrentHashMap<>();
+    private TabDevTools devTools;
+    private boolean unavailable;
+    private List<Map<String, Object>> activePatterns = List.of();
+
+    RequestBlocker(WebDriver driver, Function<String, Optional<TabDevTools>> tabs) {
+        this.driver = driver;
+        this.tabs = tabs;
+    }
+
+    /**
+     * Blocker for a new, not yet decorated session; empty if blocking is disabled or the browser has no DevTools.
+     * Nothing is sent to the browser until a test asks for blocking.
+     */
+    public static Optional<RequestBlocker> create(WebDriver driver) {
+        if (!Boolean.parseBoolean(System.getProperty("selenium.block", "true")) || !(driver instanceof HasDevTools browser)) {
+            return Optional.empty();
+        }
+        return Optional.of(new RequestBlocker(driver, handle -> TabDevTools.attach(browser, handle)));
+    }
+
+    /**
+     * Links the blocker to the decorated driver that tests receive, for {@link #of}.
+     */
+    public void register(WebDriver decorated) {
+        BLOCKERS.put(decorated, this);
+    }
+
+    public static Optional<RequestBlocker> of(WebDriver driver) {
+        return Optional.ofNullable(BLOCKERS.get(driver));
+    }
+
+    /**
+     * Blocks what the rules say from now on (empty: stop blocking).
+     */
+    public synchronized void apply(Optional<BlockResources> rules) {
+        List<Map<String, Object>> patterns = rules.map(RequestBlocker::fetchPatterns).orElse(List.of());
+        if (patterns.equals(activePatterns) || unavailable) {
+            return;
+        }
+        try {
+            TabDevTools session = connect();
+            if (patterns.isEmpty()) {
+                session.send("Fetch.disable", Map.of());
+            } else {
+                session.send("Fetch.enable", Map.of("patterns", patterns));
+            }
+            activePatterns = patterns;
+        } catch (RuntimeException e) {
+            // Blocking only makes pages faster: run the tests unblocked rather than failing them
+            unavailable = true;
+            System.err.println("Request blocking unavailable for this session: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void beforeQuit(WebDriver driver) {
+        BLOCKERS.values().remove(this);
+    }
+
+    static List<Map<String, Object>> fetchPatterns(BlockResources rules) {
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (ResourceType type : rules.types()) {
+            patterns.add(Map.of("urlPattern", "*", "resourceType", type.cdpName(), "requestStage", "Request"));
+        }
+        for (String url : rules.urls()) {
+            patterns.add(Map.of("urlPattern", url, "requestStage", "Request"));
+        }
+        return patterns;
+    }
+
+    // Attached to the tab the session is parked on when a test leases it: its first tab
+    private TabDevTools connect() {
+        if (devTools != null) {
+            return devTools;
+        }
+        TabDevTools session = tabs.apply(driver.getWindowHandle())
+                .orElseThrow(() -> new IllegalStateException("no DevTools connection"));
+        session.send("Network.enable", Map.of());
+        session.listen("Fetch.requestPaused", params -> {
+            Map<?, ?> request = (Map<?, ?>) params.get("request");
+            String url = String.valueOf(request.get("url"));
+            STATS.blocked(String.valueOf(params.get("resourceType")), KNOWN_SIZES.get(url));
+            session.send("Fetch.failRequest", Map.of("requestId", params.get("requestId"), "errorReason", "BlockedByClient"));
+        });
+        session.listen("Network.responseReceived", params -> loadingUrls.put(
+                String.valueOf(params.get("requestId")), String.valueOf(((Map<?, ?>) params.get("response")).get("url"))));
+        session.listen("Network.loadingFinished", params -> {
+            String url = loadingUrls.remove(String.valueOf(params.get("requestId")));
+            if (url != null && params.get("encodedDataLength") instanceof Number size && KNOWN_SIZES.size() < MAX_KNOWN_SIZES) {
+                KNOWN_SIZES.put(url, size.longValue());
+            }
+        });
+        session.listen("Network.loadingFailed", params -> loadingUrls.remove(String.valueOf(params.get("requestId"))));
+        devTools = session;
+        return session;
+    }
+
+    /**
+     * Run-wide counters of blocked requests, by resource type.
+     */
+    static final class Stats {
+
+        private final Map<String, LongAdder[]> byType = new ConcurrentSkipListMap<>();
+
+        // Counters per type: requests, requests of known size, bytes of known size
+        void blocked(String resourceType, Long knownSize) {
+            LongAdder[] counters = byType.computeIfAbsent(resourceType,
+                    key -> new LongAdder[]{new LongAdder(), new LongAdder(), new LongAdder()});
+            counters[0].increment();
+            if (knownSize != null) {
+                counters[1].increment();
+                counters[2].add(knownSize);
+            }
+        }
+
+        String report() {
+            if (byType.isEmpty()) {
+                return "no requests blocked";
+            }
+            Map<String, long[]> rows = new LinkedHashMap<>();
+            long[] total = new long[3];
+            byType.forEach((type, counters) -> {
+                long[] row = {counters[0].sum(), counters[1].sum(), counters[2].sum()};
+                rows.put(type, row);
+                for (int i = 0; i < 3; i++) {
+                    total[i] += row[i];
+                }
+            });
+            rows.put("total", total);
+            StringBuilder out = new StringBuilder(String.format("%-12s %9s %14s%n", "type", "requests", "KB avoided"));
+            rows.forEach((type, row) -> out.append(String.format(Locale.ROOT, "%-12s %9d %14s%n", type, row[0],
+                    row[1] == 0 ? "?" : String.format(Locale.ROOT, "%s%.1f", row[1] < row[0] ? ">= " : "", row[2] / 1024.0))));
+            return out.append("(sizes of URLs loaded earlier in the run; \">=\" when some were never loaded)").toString();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.una.selenium.tests.support.network;
+
+import com.una.selenium.tests.support.FakeDriver;
+import com.una.selenium.tests.support.devtools.TabDevTools;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static com.una.selenium.tests.support.network.ResourceType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the Fetch patterns built from {@link BlockResources} and the blocked-request counters (no browser needed).
+ */
+public class RequestBlockerTest {
+
+    @BlockResources(types = {IMAGE, FONT}, urls = "*google-analytics.com/*")
+    private static final class Annotated {
+    }
+
+    @Test
+    void buildsOneRequestStagePatternPerTypeAndUrl() {
+        List<Map<String, Object>> patterns = RequestBlocker.fetchPatterns(Annotated.class.getAnnotation(BlockResources.class));
+
+        assertEquals(List.of(
+                Map.of("urlPattern", "*", "resourceType", "Image", "requestStage", "Request"),
+                Map.of("urlPattern", "*", "resourceType", "Font", "requestStage", "Request"),
+                Map.of("urlPattern", "*google-analytics.com/*", "requestStage", "Request")), patterns);
+    }
+
+    @BlockResources(types = FONT)
+    private static final class OtherRules {
+    }
+
+    @Test
+    void sessionsSharingABrowserBlockOnTheirOwnTabs() {
+        // One Chrome process with two contexts (see BrowserContexts): commands are recorded by the tab they reach,
+        // and a DevTools connection attached without a handle would land on the owner's blank tab
+        Map<String, List<String>> byTab = new ConcurrentHashMap<>();
+        RequestBlocker alice = new RequestBlocker(session("T2"), handle -> Optional.of(tab(handle == null ? "T1" : handle, byTab)));
+        RequestBlocker bob = new RequestBlocker(session("T3"), handle -> Optional.of(tab(handle == null ? "T1" : handle, byTab)));
+
+        alice.apply(Optional.of(Annotated.class.getAnnotation(BlockResources.class)));
+        bob.apply(Optional.of(OtherRules.class.getAnnotation(BlockResources.class)));
+        bob.apply(Optional.empty());
+
+        assertNull(byTab.get("T1"), "Nothing may reach the tab of the browser's owner");
+        assertEquals(List.of("Network.enable", "Fetch.enable Image,Font,null"), byTab.get("T2"));
+        assertEquals(List.of("Network.enable", "Fetch.enable Font", "Fetch.disable"), byTab.get("T3"));
+    }
+
+    @Test
+    void countsBlockedRequestsAndKnownBytesPerType() {
+        RequestBlocker.Stats stats = new RequestBlocker.Stats();
+        assertEquals("no requests blocked", stats.report());
+
+        stats.blocked("Image", 2048L);
+        stats.blocked("Image", null);
+        stats.blocked("Script", 1024L);
+
+        String report = stats.report();
+        assertTrue(report.contains("Image                2         >= 2.0"), report);
+        assertTrue(report.contains("Script               1            1.0"), report);
+        assertTrue(report.contains("total                3         >= 3.0"), report);
+    }
+
+    // Session whose current window is the given tab
+    private static WebDriver session(String handle) {
+        return FakeDriver.driver().returning("getWindowHandle", handle).build();
+    }
+
+    // Logs the commands sent to one tab, with the resource types of Fetch patterns
+    private static TabDevTools tab(String handle, Map<String, List<String>> byTab) {
+        return new TabDevTools() {
+            @Override
+            public void send(String method, Map<String, Object> params) {
+                StringBuilder logged = new StringBuilder(method);
+                if (params.get("patterns") instanceof List<?> patterns) {
+                    logged.append(' ').append(String.join(",",
+                            patterns.stream().map(pattern -> String.valueOf(((Map<?, ?>) pattern).get("resourceType"))).toList()));
+                }
+                byTab.computeIfAbsent(handle, key -> new ArrayList<>()).add(logged.toString());
+            }
+
+            @Override
+            public void listen(String event, Consumer<Map<String, Object>> handler) {
+            }
+        };
+    }
+}
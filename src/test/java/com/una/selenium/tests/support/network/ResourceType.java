@@ -0,0 +1,25 @@
+package com.una.selenium.tests.support.network;
+
+/**
+ * Resource types that {@link BlockResources} can block, with their DevTools protocol names (Network.ResourceType).
+ */
+public enum ResourceType {
+    IMAGE("Image"),
+    MEDIA("Media"),
+    FONT("Font"),
+    STYLESHEET("Stylesheet"),
+    SCRIPT("Script"),
+    XHR("XHR"),
+    FETCH("Fetch"),
+    PING("Ping");
+
+    private final String cdpName;
+
+    ResourceType(String cdpName) {
+        this.cdpName = cdpName;
+    }
+
+    public String cdpName() {
+        return cdpName;
+    }
+}
@@ -0,0 +1,128 @@
+package com.una.selenium.tests.support.page;
+
+import com.una.selenium.tests.support.report.RunReport;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * WebElement proxy that looks its element up on first use and keeps the handle for the following calls.
+ * The element is looked up again only when the session navigated since the lookup ({@link PageChanges}) or
+ * when a call fails with StaleElementReferenceException (the call is then repeated once on the new element;
+ * a stale element never executed the call, so repeating it is safe).
+ *
+ * Page objects declare their elements as fields ({@link Page#visible}, {@link Page#clickable}): creating them
+ * costs nothing, and an element used several times in a test is found once. The "Page objects" report section
+ * shows how many lookups the cache saved.
+ */
+public final class LazyElement implements InvocationHandler {
+
+    // Counters of the page objects of the run; unit tests give their elements their own
+    private static final Stats RUN = new Stats();
+
+    static {
+        RunReport.register("Page objects", RUN::report);
+    }
+
+    private final WebDriver driver;
+    private final String description;
+    private final Function<WebDriver, WebElement> lookup;
+    private final Stats stats;
+    private WebElement cached;
+    private long generation;
+
+    private LazyElement(WebDriver driver, String description, Function<WebDriver, WebElement> lookup, Stats stats) {
+        this.driver = driver;
+        this.description = description;
+        this.lookup = lookup;
+        this.stats = stats;
+    }
+
+    /**
+     * A lazy element found with the given lookup (e.g. a wait for visibility) on the driver's current page.
+     */
+    public static WebElement of(WebDriver driver, String description, Function<WebDriver, WebElement> lookup) {
+        return of(driver, description, lookup, RUN);
+    }
+
+    // An element counted in the given stats instead of the run's report
+    static WebElement of(WebDriver driver, String description, Function<WebDriver, WebElement> lookup, Stats stats) {
+        return (WebElement) Proxy.newProxyInstance(LazyElement.class.getClassLoader(),
+                new Class<?>[]{WebElement.class, WrapsElement.class}, new LazyElement(driver, description, lookup, stats));
+    }
+
+    @Override
+    public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "toString":
+                return "Lazy " + description;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "getWrappedElement":
+                return current();
+            default:
+                break;
+        }
+        stats.uses.increment();
+        try {
+            return method.invoke(current(), args);
+        } catch (InvocationTargetException e) {
+            if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                throw e.getCause();
+            }
+            stats.afterStale.increment();
+            try {
+                return method.invoke(lookUp(), args);
+            } catch (InvocationTargetException again) {
+                throw again.getCause();
+            }
+        }
+    }
+
+    private WebElement current() {
+        if (cached == null) {
+            return lookUp();
+        }
+        if (generation != PageChanges.generation(driver)) {
+            stats.afterNavigation.increment();
+            return lookUp();
+        }
+        stats.saved.increment();
+        return cached;
+    }
+
+    private WebElement lookUp() {
+        // Read before the lookup: a navigation during it makes the next call look up again
+        generation = PageChanges.generation(driver);
+        cached = null;
+        WebElement element = lookup.apply(driver);
+        stats.lookups.increment();
+        cached = element;
+        return element;
+    }
+
+    static final class Stats {
+
+        private final LongAdder uses = new LongAdder();
+        private final LongAdder lookups = new LongAdder();
+        private final LongAdder saved = new LongAdder();
+        private final LongAdder afterStale = new LongAdder();
+        private final LongAdder afterNavigation = new LongAdder();
+
+        String report() {
+            return String.format("element calls=%d, lookups=%d, saved by the cache=%d, "
+                            + "looked up again after stale=%d, after navigation=%d",
+                    uses.sum(), lookups.sum(), saved.sum(), afterStale.sum(), afterNavigation.sum());
+        }
+    }
+}
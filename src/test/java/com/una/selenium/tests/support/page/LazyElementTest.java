@@ -0,0 +1,78 @@
+package com.una.selenium.tests.support.page;
+
+import com.una.selenium.tests.support.FakeDriver;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lookup caching of LazyElement with fake drivers and elements (no browser needed).
+ */
+public class LazyElementTest {
+
+    private final WebDriver driver = FakeDriver.driver().build();
+    private final List<String> calls = new ArrayList<>();
+    private final List<Boolean> staleness = new ArrayList<>();
+    // Counters of this test's elements only: the run's "Page objects" report is not touched
+    private final LazyElement.Stats stats = new LazyElement.Stats();
+
+    @Test
+    void looksUpOnFirstUseAndAgainOnlyAfterNavigation() {
+        PageChanges pageChanges = PageChanges.create();
+        pageChanges.register(driver);
+        WebElement searchBox = LazyElement.of(driver, "search box", session -> fakeElement("e" + staleness.size(), false), stats);
+
+        assertTrue(staleness.isEmpty(), "Declaring an element must not look it up");
+        searchBox.sendKeys("Selenium");
+        searchBox.click();
+        assertEquals("e0", ((WrapsElement) searchBox).getWrappedElement().getTagName());
+        assertEquals(1, staleness.size());
+
+        pageChanges.afterGet(driver, "/about");
+        searchBox.click();
+        assertEquals(2, staleness.size(), "A navigation invalidates the cached handle");
+        assertEquals(List.of("e0.sendKeys", "e0.click", "e1.click"), calls);
+        assertEquals("element calls=3, lookups=2, saved by the cache=2, looked up again after stale=0, after navigation=1",
+                stats.report());
+        pageChanges.beforeQuit(driver);
+    }
+
+    @Test
+    void repeatsCallOnceOnNewElementWhenHandleIsStale() {
+        WebElement button = LazyElement.of(driver, "button",
+                session -> fakeElement("e" + staleness.size(), staleness.isEmpty()), stats);
+
+        button.click();
+
+        assertEquals(List.of("e1.click"), calls);
+        assertEquals(2, staleness.size());
+        assertTrue(button.toString().contains("button"));
+        assertTrue(stats.report().contains("looked up again after stale=1"), stats.report());
+    }
+
+    // Element whose calls are logged, or that always fails as stale (its page was replaced)
+    private WebElement fakeElement(String name, boolean stale) {
+        staleness.add(stale);
+        FakeDriver<WebElement> element = FakeDriver.of(WebElement.class).named(name).strict();
+        for (String method : List.of("click", "sendKeys", "getTagName")) {
+            element.on(method, args -> {
+                if (stale) {
+                    throw new StaleElementReferenceException(name + " is gone");
+                }
+                if (method.equals("getTagName")) {
+                    return name;
+                }
+                calls.add(name + "." + method);
+                return null;
+            });
+        }
+        return element.build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.una.selenium.tests.support.page;
+
+import com.una.selenium.tests.support.locator.LocatorChain;
+import com.una.selenium.tests.support.wait.ReadyConditions;
+import com.una.selenium.tests.support.wait.ReadyWait;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Base class of the page objects (com.una.selenium.tests.pages). Elements are declared as fields with
+ * {@link #visible} or {@link #clickable} and are {@link LazyElement}s: found on first use, then reused.
+ */
+public abstract class Page {
+
+    protected final WebDriver driver;
+    protected final ReadyWait wait;
+
+    protected Page(WebDriver driver, ReadyWait wait) {
+        this.driver = driver;
+        this.wait = wait;
+    }
+
+    /**
+     * Element that is waited for until visible, like {@code wait.until(visibilityOfElementLocated(locator))}.
+     */
+    protected WebElement visible(By locator) {
+        return LazyElement.of(driver, locator.toString(),
+                session -> wait.until(ReadyConditions.visibilityOfElementLocated(locator)));
+    }
+
+    /**
+     * Element that is waited for until clickable, with any of the chain's alternatives.
+     */
+    protected WebElement clickable(LocatorChain chain) {
+        return LazyElement.of(driver, chain.toString(), session -> chain.findClickable(session, wait));
+    }
+
+    public String title() {
+        return driver.getTitle();
+    }
+
+    public String currentUrl() {
+        return driver.getCurrentUrl();
+    }
+}
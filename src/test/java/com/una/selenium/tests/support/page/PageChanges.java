@@ -0,0 +1,68 @@
+package com.una.selenium.tests.support.page;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the navigations of a session (get, back, forward, refresh, window and frame switches), so a
+ * {@link LazyElement} knows without a browser round trip that its cached handle belongs to an older page.
+ * Navigations started by the page itself (a click on a link, a form submit) are not seen here: the handle
+ * then goes stale and is looked up again on the StaleElementReferenceException.
+ */
+public final class PageChanges implements WebDriverListener {
+
+    private static final Map<WebDriver, PageChanges> TRACKERS = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private PageChanges() {
+    }
+
+    /**
+     * Tracker for a new, not yet decorated session.
+     */
+    public static PageChanges create() {
+        return new PageChanges();
+    }
+
+    /**
+     * Links the tracker to the decorated driver that tests receive, for {@link #generation}.
+     */
+    public void register(WebDriver decorated) {
+        TRACKERS.put(decorated, this);
+    }
+
+    /**
+     * Number of navigations of the session so far; always 0 for sessions that are not tracked.
+     */
+    public static long generation(WebDriver driver) {
+        PageChanges tracker = TRACKERS.get(driver);
+        return tracker == null ? 0 : tracker.generation.get();
+    }
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public void afterAnyNavigationCall(WebDriver.Navigation navigation, Method method, Object[] args, Object result) {
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public void afterAnyTargetLocatorCall(WebDriver.TargetLocator targetLocator, Method method, Object[] args, Object result) {
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public void beforeQuit(WebDriver driver) {
+        TRACKERS.values().remove(this);
+    }
+}
@@ -0,0 +1,146 @@
+package com.una.selenium.tests.support.query;
+
+import com.una.selenium.tests.support.script.LocatorScript;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Batched element lookup: one JavaScript call returns, for every locator, the count of matches and for each
+ * match its visibility, bounding box, href/text and the requested attributes.
+ * Checking existence and visibility of N elements therefore costs one round trip instead of 1 + N.
+ *
+ * <pre>
+ * QueryResult links = ElementQuery.of(driver).withAttributes("aria-label").find(By.xpath("//a[contains(@href, 'selenium.dev')]"));
+ * assertTrue(links.anyDisplayed());
+ * </pre>
+ *
+ * Custom locators without a W3C form are still supported, through regular findElements calls (slow path).
+ */
+public final class ElementQuery {
+
+    private static final String QUERY_SCRIPT = LocatorScript.FIND_FUNCTION + """
+            var locators = arguments[0], names = arguments[1];
+            return locators.map(function (locator) {
+              return __find(locator).map(function (el) {
+                var box = el.getBoundingClientRect();
+                var attributes = {};
+                names.forEach(function (name) {
+                  var value = el.getAttribute(name);
+                  if (value !== null) { attributes[name] = value; }
+                });
+                return {
+                  element: el,
+                  tag: el.tagName.toLowerCase(),
+                  text: (el.innerText || el.textContent || '').trim(),
+                  href: el.href || el.getAttribute('href'),
+                  displayed: __visible(el),
+                  x: box.left, y: box.top, width: box.width, height: box.height,
+                  attributes: attributes
+                };
+              });
+            });
+            """;
+
+    private final WebDriver driver;
+    private final List<String> attributes = new ArrayList<>();
+
+    private ElementQuery(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public static ElementQuery of(WebDriver driver) {
+        return new ElementQuery(driver);
+    }
+
+    /**
+     * Extra attributes to copy from every match (href and text are always included).
+     */
+    public ElementQuery withAttributes(String... names) {
+        attributes.addAll(Arrays.asList(names));
+        return this;
+    }
+
+    public QueryResult find(By locator) {
+        return findAll(locator).get(locator);
+    }
+
+    /**
+     * Runs all locators in one call; the map keeps the order of the arguments.
+     */
+    public Map<By, QueryResult> findAll(By... locators) {
+        Map<By, QueryResult> results = new LinkedHashMap<>();
+        List<By> batched = new ArrayList<>();
+        List<Map<String, Object>> specs = new ArrayList<>();
+        for (By locator : locators) {
+            Optional<Map<String, Object>> spec = LocatorScript.toSpec(locator);
+            if (spec.isPresent() && driver instanceof JavascriptExecutor) {
+                batched.add(locator);
+                specs.add(spec.get());
+            }
+            // Placeholder keeps the argument order; filled below
+            results.put(locator, null);
+        }
+        if (!batched.isEmpty()) {
+            try {
+                List<?> perLocator = (List<?>) ((JavascriptExecutor) driver).executeScript(QUERY_SCRIPT, specs, attributes);
+                for (int i = 0; i < batched.size(); i++) {
+                    results.put(batched.get(i), toResult(batched.get(i), (List<?>) perLocator.get(i)));
+                }
+            } catch (UnsupportedOperationException e) {
+                // JavascriptExecutor with scripting off (in-process tier): every locator takes the slow path
+            }
+        }
+        results.replaceAll((locator, result) -> result != null ? result : slowPath(locator));
+        return results;
+    }
+
+    private QueryResult toResult(By locator, List<?> matches) {
+        List<ElementSnapshot> elements = new ArrayList<>(matches.size());
+        for (Object match : matches) {
+            Map<?, ?> values = (Map<?, ?>) match;
+            Map<String, String> copied = new LinkedHashMap<>();
+            ((Map<?, ?>) values.get("attributes")).forEach((name, value) -> copied.put(String.valueOf(name), String.valueOf(value)));
+            elements.add(new ElementSnapshot(
+                    (WebElement) values.get("element"),
+                    (String) values.get("tag"),
+                    (String) values.get("text"),
+                    (String) values.get("href"),
+                    Boolean.TRUE.equals(values.get("displayed")),
+                    new Rectangle(number(values.get("x")), number(values.get("y")),
+                            number(values.get("height")), number(values.get("width"))),
+                    Map.copyOf(copied)));
+        }
+        return new QueryResult(locator, List.copyOf(elements));
+    }
+
+    // One round trip for the lookup plus several per element, like the code this class replaces
+    private QueryResult slowPath(By locator) {
+        List<ElementSnapshot> elements = new ArrayList<>();
+        for (WebElement element : driver.findElements(locator)) {
+            Map<String, String> copied = new LinkedHashMap<>();
+            for (String name : attributes) {
+                String value = element.getAttribute(name);
+                if (value != null) {
+                    copied.put(name, value);
+                }
+            }
+            elements.add(new ElementSnapshot(element, element.getTagName(), element.getText().trim(),
+                    element.getAttribute("href"), element.isDisplayed(), element.getRect(), Map.copyOf(copied)));
+        }
+        return new QueryResult(locator, List.copyOf(elements));
+    }
+
+    private static int number(Object value) {
+        return value instanceof Number number ? (int) Math.round(number.doubleValue()) : 0;
+    }
+}
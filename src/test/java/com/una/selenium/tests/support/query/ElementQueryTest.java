@@ -0,0 +1,71 @@
+package com.una.selenium.tests.support.query;
+
+import com.una.selenium.tests.support.FakeDriver;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a batched query is a single script call and that its result is mapped per locator.
+ */
+public class ElementQueryTest {
+
+    private final AtomicInteger scriptCalls = new AtomicInteger();
+
+    @Test
+    void runsAllLocatorsInOneScriptCall() {
+        Map<String, Object> hidden = match("a", "Docs", false, Map.of());
+        Map<String, Object> visible = match("a", "Selenium", true, Map.of("aria-label", "Selenium"));
+        WebDriver driver = scriptDriver(List.of(List.of(hidden, visible), List.of()));
+
+        By links = By.xpath("//a[contains(@href, 'selenium.dev')]");
+        By missing = By.name("nothing");
+        Map<By, QueryResult> results = ElementQuery.of(driver).withAttributes("aria-label").findAll(links, missing);
+
+        assertEquals(1, scriptCalls.get(), "Everything must be fetched in one round trip");
+        assertEquals(List.of(links, missing), List.copyOf(results.keySet()));
+        QueryResult found = results.get(links);
+        assertEquals(2, found.count());
+        assertTrue(found.anyDisplayed());
+        assertEquals("Selenium", found.firstDisplayed().orElseThrow().attribute("aria-label"));
+        assertEquals(new Rectangle(10, 20, 30, 40), found.elements().get(0).rect());
+        assertTrue(results.get(missing).isEmpty());
+    }
+
+    @Test
+    void fallsBackToLookupsWhenScriptsAreOff() {
+        By links = By.tagName("a");
+        WebDriver driver = FakeDriver.driver().implementing(JavascriptExecutor.class).strict()
+                .on("executeScript", args -> {
+                    scriptCalls.incrementAndGet();
+                    throw new UnsupportedOperationException("Javascript is disabled for this driver");
+                })
+                .returning("findElements", List.of())
+                .build();
+
+        assertTrue(ElementQuery.of(driver).find(links).isEmpty());
+        assertEquals(1, scriptCalls.get());
+    }
+
+    private static Map<String, Object> match(String tag, String text, boolean displayed, Map<String, Object> attributes) {
+        return Map.of("tag", tag, "text", text, "href", "https://www.selenium.dev/", "displayed", displayed,
+                "x", 10L, "y", 20.4, "width", 40L, "height", 30L, "attributes", attributes);
+    }
+
+    private WebDriver scriptDriver(Object scriptResult) {
+        return FakeDriver.driver().implementing(JavascriptExecutor.class).strict()
+                .on("executeScript", args -> {
+                    scriptCalls.incrementAndGet();
+                    return scriptResult;
+                })
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.una.selenium.tests.support.query;
+
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+
+/**
+ * Plain value copy of an element's state, taken in the same round trip as the lookup.
+ * {@code displayed} is computed in the page (CSS display/visibility and a non-empty box), which matches
+ * WebElement.isDisplayed() for ordinary elements. The live {@link WebElement} is kept for interactions.
+ */
+public record ElementSnapshot(WebElement element,
+                              String tagName,
+                              String text,
+                              String href,
+                              boolean displayed,
+                              Rectangle rect,
+                              Map<String, String> attributes) {
+
+    public String attribute(String name) {
+        return attributes.get(name);
+    }
+}
@@ -0,0 +1,28 @@
+package com.una.selenium.tests.support.query;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * All matches of one locator, in document order.
+ */
+public record QueryResult(By locator, List<ElementSnapshot> elements) {
+
+    public int count() {
+        return elements.size();
+    }
+
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    public boolean anyDisplayed() {
+        return elements.stream().anyMatch(ElementSnapshot::displayed);
+    }
+
+    public Optional<ElementSnapshot> firstDisplayed() {
+        return elements.stream().filter(ElementSnapshot::displayed).findFirst();
+    }
+}
@@ -0,0 +1,69 @@
+package com.una.selenium.tests.support.report;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * End-of-run report shared by the support extensions.
+ * Each extension registers a named section; all sections are printed once,
+ * when the JUnit engine closes its root ExtensionContext store (i.e. after the last test class).
+ */
+public final class RunReport {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(RunReport.class);
+
+    // Sorted by name so the report layout is stable between runs
+    private static final Map<String, Supplier<String>> SECTIONS = new ConcurrentSkipListMap<>();
+
+    private RunReport() {
+    }
+
+    /**
+     * Registers (or replaces) a report section. The supplier is only evaluated at the end of the run.
+     */
+    public static void register(String section, Supplier<String> body) {
+        SECTIONS.put(section, body);
+    }
+
+    /**
+     * Makes sure the report is printed when the current test run finishes.
+     * Safe to call from every callback; only the first call per run has an effect.
+     */
+    public static void install(ExtensionContext context) {
+        context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(Printer.class, key -> new Printer(), Printer.class);
+    }
+
+    /**
+     * Directory where extensions write machine-readable report files (defaults to target/selenium-reports).
+     */
+    public static Path directory() {
+        return Paths.get(System.getProperty("selenium.reports.dir", "target/selenium-reports"));
+    }
+
+    static String render() {
+        StringBuilder out = new StringBuilder("\n========== Selenium run report ==========\n");
+        SECTIONS.forEach((name, body) -> {
+            out.append("--- ").append(name).append(" ---\n");
+            try {
+                out.append(body.get()).append('\n');
+            } catch (RuntimeException e) {
+                out.append("(section failed: ").append(e.getMessage()).append(")\n");
+            }
+        });
+        return out.append("=========================================").toString();
+    }
+
+    // Closed by JUnit together with the root store, after all test classes have run
+    private static final class Printer implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            System.out.println(render());
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.una.selenium.tests.support.screenshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed screenshot storage: every distinct PNG is stored once, under its SHA-256
+ * ({@code blobs/ab/ab12...ef.png}), and {@code index.tsv} maps each capture (time, test id) to its blob.
+ * When the same page breaks for many tests, the identical captures cost one file.
+ *
+ * Retention: index entries older than the maximum age are dropped, then the oldest entries until the blobs
+ * fit in the size budget; blobs no longer referenced by the index are deleted. This runs when the store is
+ * opened and whenever a new blob takes the store over budget.
+ *
+ * Index line format (tab separated): {@code 2026-10-17T09:15:02.123Z  ScreenshotOnFailureTest#testGoogleTitle_Failure  <sha256>  <bytes>}
+ */
+public final class ScreenshotStore {
+
+    private static final String INDEX = "index.tsv";
+
+    private final Path root;
+    private final long maxBytes;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    // Index in file order (oldest first) and the size of every blob on disk
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<String, Long> blobs = new HashMap<>();
+    private long storedBytes;
+
+    private long captures;
+    private long duplicates;
+    private long savedBytes;
+    private long newBytes;
+    private long evictedBlobs;
+    private long evictedBytes;
+
+    record Entry(Instant capturedAt, String testId, String sha256, long size) {
+
+        String toLine() {
+            return capturedAt + "\t" + testId + "\t" + sha256 + "\t" + size + "\n";
+        }
+
+        static Entry parse(String line) {
+            String[] fields = line.split("\t");
+            return new Entry(Instant.parse(fields[0]), fields[1], fields[2], Long.parseLong(fields[3]));
+        }
+    }
+
+    ScreenshotStore(Path root, long maxBytes, Duration maxAge, Clock clock) {
+        this.root = root;
+        this.maxBytes = maxBytes;
+        this.maxAge = maxAge;
+        this.clock = clock;
+        load();
+        evict();
+    }
+
+    public static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Where the blob with this hash is (or will be) stored.
+     */
+    public Path blobPath(String sha256) {
+        return root.resolve("blobs").resolve(sha256.substring(0, 2)).resolve(sha256 + ".png");
+    }
+
+    /**
+     * Records a capture; writes the PNG only if no identical capture is stored yet.
+     */
+    synchronized Path store(String testId, Instant capturedAt, String sha256, byte[] png) throws IOException {
+        captures++;
+        Path blob = blobPath(sha256);
+        if (blobs.containsKey(sha256)) {
+            duplicates++;
+            savedBytes += png.length;
+        } else {
+            writeBlob(blob, png);
+            blobs.put(sha256, (long) png.length);
+            storedBytes += png.length;
+            newBytes += png.length;
+        }
+        Entry entry = new Entry(capturedAt, testId.replaceAll("\\s", "_"), sha256, png.length);
+        entries.add(entry);
+        try (FileChannel index = FileChannel.open(root.resolve(INDEX),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            index.write(ByteBuffer.wrap(entry.toLine().getBytes(StandardCharsets.UTF_8)));
+        }
+        if (storedBytes > maxBytes) {
+            evict();
+        }
+        return blob;
+    }
+
+    /**
+     * Applies the age and size limits and deletes unreferenced blobs.
+     */
+    synchronized void evict() {
+        Instant oldestKept = clock.instant().minus(maxAge);
+        int before = entries.size();
+        entries.removeIf(entry -> entry.capturedAt().isBefore(oldestKept));
+        Map<String, Instant> lastUse = new HashMap<>();
+        entries.forEach(entry -> lastUse.merge(entry.sha256(), entry.capturedAt(),
+                (a, b) -> a.isAfter(b) ? a : b));
+        long referenced = lastUse.keySet().stream().mapToLong(sha -> blobs.getOrDefault(sha, 0L)).sum();
+        // Over budget: forget the least recently captured images first
+        List<String> byAge = lastUse.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue()).map(Map.Entry::getKey).toList();
+        for (String sha : byAge) {
+            if (referenced <= maxBytes) {
+                break;
+            }
+            referenced -= blobs.getOrDefault(sha, 0L);
+            entries.removeIf(entry -> entry.sha256().equals(sha));
+            lastUse.remove(sha);
+        }
+        for (String sha : List.copyOf(blobs.keySet())) {
+            if (!lastUse.containsKey(sha)) {
+                deleteBlob(sha);
+            }
+        }
+        if (entries.size() != before) {
+            rewriteIndex();
+        }
+    }
+
+    synchronized String report() {
+        return String.format("captures=%d, duplicates=%d, bytes saved by dedup=%d KiB, new blobs=%d KiB, "
+                        + "evicted blobs=%d (%d KiB), store size=%d KiB in %d blobs (%s)",
+                captures, duplicates, savedBytes / 1024, newBytes / 1024, evictedBlobs, evictedBytes / 1024,
+                storedBytes / 1024, blobs.size(), root);
+    }
+
+    synchronized long storedBytes() {
+        return storedBytes;
+    }
+
+    synchronized List<Entry> entries() {
+        return List.copyOf(entries);
+    }
+
+    // Written under a temporary name and renamed, so a crash mid-write never leaves a truncated blob under its hash
+    private void writeBlob(Path blob, byte[] png) throws IOException {
+        Files.createDirectories(blob.getParent());
+        Path temp = Files.createTempFile(blob.getParent(), blob.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(png);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Written by another JVM sharing the directory: same hash, same content
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void deleteBlob(String sha) {
+        try {
+            Files.deleteIfExists(blobPath(sha));
+        } catch (IOException e) {
+            System.err.println("Could not delete screenshot blob " + sha + ": " + e.getMessage());
+            return;
+        }
+        long size = blobs.remove(sha);
+        storedBytes -= size;
+        evictedBlobs++;
+        evictedBytes += size;
+    }
+
+    private void load() {
+        int unreadable = 0;
+        try {
+            Files.createDirectories(root);
+            Path index = root.resolve(INDEX);
+            if (Files.isRegularFile(index)) {
+                for (String line : Files.readAllLines(index, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        entries.add(Entry.parse(line));
+                    } catch (RuntimeException e) {
+                        // e.g. half a line appended by a JVM that was killed
+                        unreadable++;
+                    }
+                }
+            }
+            Path blobDir = root.resolve("blobs");
+            if (Files.isDirectory(blobDir)) {
+                try (Stream<Path> files = Files.walk(blobDir)) {
+                    for (Path file : files.filter(Files::isRegularFile).toList()) {
+                        String name = file.getFileName().toString();
+                        if (name.endsWith(".png")) {
+                            blobs.put(name.substring(0, name.length() - 4), Files.size(file));
+                        } else if (name.endsWith(".tmp")) {
+                            // Blob whose write was interrupted
+                            Files.deleteIfExists(file);
+                        }
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Could not open the screenshot store " + root, e);
+        }
+        storedBytes = blobs.values().stream().mapToLong(Long::longValue).sum();
+        if (unreadable > 0) {
+            System.err.println("Dropped " + unreadable + " unreadable line(s) from the screenshot index in " + root);
+        }
+        // Index lines whose blob disappeared (deleted by hand) are useless: drop them from the file too
+        if (entries.removeIf(entry -> !blobs.containsKey(entry.sha256())) || unreadable > 0) {
+            rewriteIndex();
+        }
+    }
+
+    private void rewriteIndex() {
+        StringBuilder content = new StringBuilder();
+        entries.forEach(entry -> content.append(entry.toLine()));
+        try {
+            Path temp = Files.createTempFile(root, "index", ".tmp");
+            Files.writeString(temp, content, StandardCharsets.UTF_8);
+            Files.move(temp, root.resolve(INDEX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rewrite the screenshot index", e);
+        }
+    }
+}
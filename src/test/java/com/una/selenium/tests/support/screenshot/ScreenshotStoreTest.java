@@ -0,0 +1,102 @@
+package com.una.selenium.tests.support.screenshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Deduplication, index and retention of the content-addressed screenshot store.
+ */
+public class ScreenshotStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T09:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void storesIdenticalCapturesOnce() throws Exception {
+        ScreenshotStore store = open(1_000_000, Duration.ofDays(14));
+        byte[] brokenPage = "same broken page".getBytes();
+
+        Path first = store.store("A#one", NOW, ScreenshotStore.sha256(brokenPage), brokenPage);
+        Path second = store.store("B#two", NOW, ScreenshotStore.sha256(brokenPage), brokenPage);
+
+        assertEquals(first, second);
+        assertEquals(1, countBlobs());
+        assertEquals(2, Files.readAllLines(tempDir.resolve("index.tsv")).size());
+        assertTrue(store.report().contains("duplicates=1"), store.report());
+    }
+
+    @Test
+    void evictsOldEntriesAndKeepsSizeBudget() throws Exception {
+        ScreenshotStore store = open(25, Duration.ofDays(14));
+        store(store, "Old#test", NOW.minus(Duration.ofDays(30)), "0123456789");
+        store(store, "A#test", NOW.minusSeconds(20), "abcdefghij");
+        store(store, "B#test", NOW.minusSeconds(10), "klmnopqrst");
+        // Over the 25 byte budget: the least recently captured image (A) must go
+        store(store, "C#test", NOW, "uvwxyz0123");
+
+        // Reopening applies the age limit and reads the rewritten index
+        ScreenshotStore reopened = open(25, Duration.ofDays(14));
+        assertEquals(List.of("B#test", "C#test"),
+                reopened.entries().stream().map(ScreenshotStore.Entry::testId).toList());
+        assertEquals(20, reopened.storedBytes());
+        assertEquals(2, countBlobs());
+    }
+
+    @Test
+    void dropsIndexLinesOfDeletedBlobsFromTheFile() throws Exception {
+        ScreenshotStore store = open(1_000_000, Duration.ofDays(14));
+        store(store, "Kept#test", NOW.minusSeconds(10), "kept page");
+        store(store, "Gone#test", NOW, "deleted page");
+        Files.delete(store.blobPath(ScreenshotStore.sha256("deleted page".getBytes())));
+
+        open(1_000_000, Duration.ofDays(14));
+
+        List<String> lines = Files.readAllLines(tempDir.resolve("index.tsv"));
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains("Kept#test"), lines.get(0));
+    }
+
+    @Test
+    void skipsHalfWrittenIndexLinesAndInterruptedBlobs() throws Exception {
+        ScreenshotStore store = open(1_000_000, Duration.ofDays(14));
+        store(store, "Kept#test", NOW, "kept page");
+        Files.writeString(tempDir.resolve("index.tsv"), "2026-10-17T09:00:01Z\tCut#te", StandardOpenOption.APPEND);
+        Path blobDir = store.blobPath(ScreenshotStore.sha256("kept page".getBytes())).getParent();
+        Files.writeString(blobDir.resolve("interrupted.png.tmp"), "half a pa");
+
+        ScreenshotStore reopened = open(1_000_000, Duration.ofDays(14));
+
+        assertEquals(List.of("Kept#test"), reopened.entries().stream().map(ScreenshotStore.Entry::testId).toList());
+        assertEquals(1, Files.readAllLines(tempDir.resolve("index.tsv")).size());
+        assertEquals(1, countBlobs());
+    }
+
+    private ScreenshotStore open(long maxBytes, Duration maxAge) {
+        return new ScreenshotStore(tempDir, maxBytes, maxAge, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static void store(ScreenshotStore store, String testId, Instant at, String content) throws Exception {
+        byte[] png = content.getBytes();
+        store.store(testId, at, ScreenshotStore.sha256(png), png);
+    }
+
+    private long countBlobs() throws Exception {
+        try (Stream<Path> files = Files.walk(tempDir.resolve("blobs"))) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
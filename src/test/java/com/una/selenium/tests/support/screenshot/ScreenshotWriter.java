@@ -0,0 +1,198 @@
+package com.una.selenium.tests.support.screenshot;
+
+import com.una.selenium.tests.support.report.RunReport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes screenshots in the background, so a failing test does not wait for the disk.
+ *
+ * The test thread only hands over the PNG bytes (from {@code OutputType.BYTES}, no temp file) and gets the
+ * final path back immediately. A single writer thread drains a bounded queue into the {@link ScreenshotStore}
+ * (content-addressed, so identical captures are written once). When the queue is full (slow disk, many parallel
+ * failures) {@link #submit} blocks until there is room again, which bounds the memory held by pending images.
+ * Pending images are flushed on JVM shutdown.
+ *
+ * Configuration: -Dselenium.screenshots.dir (default target/screenshots), -Dselenium.screenshots.queue (default 32),
+ * -Dselenium.screenshots.maxMb (default 512) and -Dselenium.screenshots.maxAgeDays (default 14).
+ */
+public final class ScreenshotWriter {
+
+    private final ScreenshotStore store;
+    private final BlockingQueue<Pending> queue;
+    private final Object drained = new Object();
+    // Submitted but not yet written (queued or being written)
+    private long inFlight;
+    // Blob of the last capture of each test execution (JUnit unique id), until another failure artifact takes it
+    private final Map<String, Path> lastCapture = new ConcurrentHashMap<>();
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder blockedNanos = new LongAdder();
+    private final AtomicLong maxWriteNanos = new AtomicLong();
+
+    ScreenshotWriter(ScreenshotStore store, int capacity) {
+        this.store = store;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        Thread.ofPlatform().daemon().name("screenshot-writer").start(this::drain);
+    }
+
+    /**
+     * The JVM-wide writer, started on first use.
+     */
+    public static ScreenshotWriter shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Queues a PNG for writing and returns the path of its blob (shared by identical captures).
+     * Blocks only while the queue is full.
+     */
+    public Path submit(String testId, byte[] png) {
+        return submit(testId, null, png);
+    }
+
+    /**
+     * Like {@link #submit(String, byte[])}, and keeps the blob for {@link #takeCapture} under the given key
+     * (the JUnit unique id of the test execution, so repeated and parameterized runs do not share it).
+     */
+    public Path submit(String testId, String captureKey, byte[] png) {
+        String sha256 = ScreenshotStore.sha256(png);
+        Path target = store.blobPath(sha256);
+        synchronized (drained) {
+            inFlight++;
+        }
+        if (captureKey != null) {
+            lastCapture.put(captureKey, target);
+        }
+        Pending pending = new Pending(testId, Instant.now(), sha256, png);
+        if (!queue.offer(pending)) {
+            long start = System.nanoTime();
+            try {
+                queue.put(pending);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                done();
+                throw new IllegalStateException("Interrupted while queueing screenshot " + target, e);
+            } finally {
+                blockedNanos.add(System.nanoTime() - start);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * The blob of the last screenshot submitted under the key, once written (waits up to the timeout for pending
+     * writes); empty if there is no such capture or it could not be written. The capture is handed out only once.
+     */
+    public Optional<Path> takeCapture(String captureKey, Duration timeout) {
+        Path blob = lastCapture.remove(captureKey);
+        if (blob == null) {
+            return Optional.empty();
+        }
+        flush(timeout);
+        return Files.isRegularFile(blob) ? Optional.of(blob) : Optional.empty();
+    }
+
+    /**
+     * Waits until every submitted screenshot has been written (or the timeout expires).
+     * Returns false on timeout.
+     */
+    public boolean flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (drained) {
+            while (inFlight > 0) {
+                long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMillis <= 0) {
+                    return false;
+                }
+                try {
+                    drained.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void drain() {
+        while (true) {
+            Pending pending;
+            try {
+                pending = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                write(pending);
+            } finally {
+                done();
+            }
+        }
+    }
+
+    private void write(Pending pending) {
+        long start = System.nanoTime();
+        try {
+            store.store(pending.testId(), pending.capturedAt(), pending.sha256(), pending.png());
+            written.increment();
+            maxWriteNanos.accumulateAndGet(System.nanoTime() - start, Math::max);
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            System.err.println("Error saving screenshot of " + pending.testId() + ": " + e);
+        }
+    }
+
+    private void done() {
+        synchronized (drained) {
+            inFlight--;
+            drained.notifyAll();
+        }
+    }
+
+    String report() {
+        return String.format("written=%d, failed=%d, max write=%.1f ms, test threads blocked on full queue=%.1f ms%n%s",
+                written.sum(), failures.sum(), maxWriteNanos.get() / 1_000_000.0,
+                blockedNanos.sum() / 1_000_000.0, store.report());
+    }
+
+    private record Pending(String testId, Instant capturedAt, String sha256, byte[] png) {
+    }
+
+    private static final class Holder {
+        static final ScreenshotWriter INSTANCE = new ScreenshotWriter(
+                new ScreenshotStore(Paths.get(System.getProperty("selenium.screenshots.dir", "target/screenshots")),
+                        Long.getLong("selenium.screenshots.maxMb", 512) * 1024 * 1024,
+                        Duration.ofDays(Long.getLong("selenium.screenshots.maxAgeDays", 14)),
+                        Clock.systemUTC()),
+                Integer.getInteger("selenium.screenshots.queue", 32));
+
+        static {
+            // The report is printed before shutdown hooks run: let pending writes finish first
+            RunReport.register("Screenshots", () -> {
+                INSTANCE.flush(Duration.ofSeconds(30));
+                return INSTANCE.report();
+            });
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                if (!INSTANCE.flush(Duration.ofSeconds(30))) {
+                    System.err.println("Some screenshots could not be written before shutdown.");
+                }
+            }, "screenshot-flush"));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.una.selenium.tests.support.screenshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Many "failing tests" submitting screenshots at once, through a queue smaller than the burst.
+ */
+public class ScreenshotWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writesEveryScreenshotFromParallelFailures() throws Exception {
+        ScreenshotStore store = new ScreenshotStore(tempDir, Long.MAX_VALUE, Duration.ofDays(1), Clock.systemUTC());
+        ScreenshotWriter writer = new ScreenshotWriter(store, 2);
+        Set<Path> paths = ConcurrentHashMap.newKeySet();
+        try (ExecutorService tests = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> submitted = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                byte[] png = ("png-" + i).getBytes();
+                // Same test name and same millisecond for many of them: every capture must still be indexed
+                submitted.add(tests.submit(() -> paths.add(writer.submit("testGoogleTitle_Failure", png))));
+            }
+            for (Future<?> future : submitted) {
+                future.get();
+            }
+        }
+
+        assertTrue(writer.flush(Duration.ofSeconds(10)));
+        assertEquals(50, paths.size());
+        for (Path path : paths) {
+            assertTrue(Files.readString(path).startsWith("png-"), path.toString());
+        }
+        assertEquals(50, store.entries().size());
+        assertTrue(writer.report().startsWith("written=50"), writer.report());
+    }
+
+    @Test
+    void handsOutTheWrittenCaptureOfATestOnce() throws Exception {
+        ScreenshotWriter writer = new ScreenshotWriter(
+                new ScreenshotStore(tempDir, Long.MAX_VALUE, Duration.ofDays(1), Clock.systemUTC()), 2);
+        String execution = "[engine:junit-jupiter]/[class:ScreenshotOnFailureTest]/[method:testGoogleTitle_Failure()]";
+
+        writer.submit("ScreenshotOnFailureTest#testGoogleTitle_Failure", execution, "png-1".getBytes());
+        writer.submit("ScreenshotOnFailureTest#other", "png-2".getBytes());
+
+        Path blob = writer.takeCapture(execution, Duration.ofSeconds(10)).orElseThrow();
+        assertEquals("png-1", Files.readString(blob));
+        assertTrue(writer.takeCapture(execution, Duration.ofSeconds(10)).isEmpty(), "A capture is only taken once");
+        assertTrue(writer.takeCapture("ScreenshotOnFailureTest#other", Duration.ofSeconds(10)).isEmpty());
+    }
+}
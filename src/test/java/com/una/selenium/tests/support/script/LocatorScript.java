@@ -0,0 +1,75 @@
+package com.una.selenium.tests.support.script;
+
+import org.openqa.selenium.By;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Translates Selenium locators into a form that in-page JavaScript can evaluate, so several lookups
+ * (or a lookup plus a wait) can be done in a single WebDriver round trip.
+ *
+ * Uses the W3C remote form of the locator ({@link By.Remotable}): By.id, By.name and By.className are
+ * already expressed as CSS selectors there, leaving css selector, xpath, link text, partial link text and tag name.
+ */
+public final class LocatorScript {
+
+    /**
+     * JavaScript function {@code __find(locator, root)} returning an array of the elements matching
+     * {@code {using, value}} below {@code root} (the document if omitted), in document order.
+     */
+    public static final String FIND_FUNCTION = """
+            function __find(locator, root) {
+              root = root || document;
+              var value = locator.value;
+              switch (locator.using) {
+                case 'css selector':
+                  return Array.prototype.slice.call(root.querySelectorAll(value));
+                case 'tag name':
+                  return Array.prototype.slice.call(root.getElementsByTagName(value));
+                case 'xpath': {
+                  var result = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                  var nodes = [];
+                  for (var i = 0; i < result.snapshotLength; i++) {
+                    if (result.snapshotItem(i).nodeType === 1) { nodes.push(result.snapshotItem(i)); }
+                  }
+                  return nodes;
+                }
+                case 'link text':
+                case 'partial link text': {
+                  var partial = locator.using === 'partial link text';
+                  return Array.prototype.slice.call(root.getElementsByTagName('a')).filter(function (a) {
+                    var text = (a.innerText || a.textContent || '').trim();
+                    return partial ? text.indexOf(value) >= 0 : text === value;
+                  });
+                }
+                default:
+                  throw new Error('Unsupported locator strategy: ' + locator.using);
+              }
+            }
+            function __visible(el) {
+              var style = window.getComputedStyle(el);
+              return style.visibility !== 'hidden' && style.display !== 'none'
+                  && el.getClientRects().length > 0 && (el.offsetWidth > 0 || el.offsetHeight > 0);
+            }
+            """;
+
+    private LocatorScript() {
+    }
+
+    /**
+     * The {@code {using, value}} map passed to {@link #FIND_FUNCTION}, or empty for custom locators
+     * that have no W3C form (callers then fall back to regular findElements calls).
+     */
+    public static Optional<Map<String, Object>> toSpec(By by) {
+        if (!(by instanceof By.Remotable remotable)) {
+            return Optional.empty();
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("using", parameters.using());
+        spec.put("value", String.valueOf(parameters.value()));
+        return Optional.of(spec);
+    }
+}
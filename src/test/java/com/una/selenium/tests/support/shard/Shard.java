@@ -0,0 +1,40 @@
+package com.una.selenium.tests.support.shard;
+
+import java.util.Optional;
+
+/**
+ * One slice of the suite, from -Dshard=i/N (1-based: -Dshard=1/3, 2/3, 3/3 together run every test class once).
+ */
+public record Shard(int index, int count) {
+
+    public Shard {
+        if (count < 1 || index < 1 || index > count) {
+            throw new IllegalArgumentException("Invalid shard " + index + "/" + count + " (expected i/N with 1 <= i <= N)");
+        }
+    }
+
+    public static Shard parse(String spec) {
+        int slash = spec.indexOf('/');
+        if (slash < 0) {
+            throw new IllegalArgumentException("Invalid shard '" + spec + "' (expected i/N, e.g. -Dshard=2/4)");
+        }
+        try {
+            return new Shard(Integer.parseInt(spec.substring(0, slash).trim()), Integer.parseInt(spec.substring(slash + 1).trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid shard '" + spec + "' (expected i/N, e.g. -Dshard=2/4)", e);
+        }
+    }
+
+    /**
+     * The shard of this JVM, or empty when the whole suite runs here.
+     */
+    public static Optional<Shard> current() {
+        String spec = System.getProperty("shard", "").trim();
+        return spec.isEmpty() ? Optional.empty() : Optional.of(parse(spec));
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
@@ -0,0 +1,68 @@
+package com.una.selenium.tests.support.shard;
+
+import com.una.selenium.tests.support.report.RunReport;
+import com.una.selenium.tests.support.timing.DurationHistory;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Keeps only the test classes of this JVM's shard (-Dshard=i/N); without -Dshard every class runs.
+ * Registered through META-INF/services/org.junit.platform.launcher.PostDiscoveryFilter.
+ *
+ * Tests are assigned by their top-level class (see {@link ShardPlan}); nested classes follow their enclosing class.
+ * The "Shard" report section lists the classes this shard ran.
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+
+    private static final Optional<Shard> SHARD = Shard.current();
+    private static final ShardPlan PLAN = SHARD.map(ShardFilter::plan).orElse(null);
+    private static final Set<String> MINE = new ConcurrentSkipListSet<>();
+    private static final Set<String> OTHERS = new ConcurrentSkipListSet<>();
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        // JUnit only removes leaves (the methods) and then prunes the empty classes, so decide by top-level class
+        Optional<String> className = SHARD.isEmpty() ? Optional.empty() : topLevelClass(descriptor);
+        if (className.isEmpty()) {
+            return FilterResult.included("not sharded");
+        }
+        if (PLAN.owns(SHARD.get(), className.get())) {
+            MINE.add(className.get());
+            return FilterResult.included("in shard " + SHARD.get());
+        }
+        OTHERS.add(className.get());
+        return FilterResult.excluded("not in shard " + SHARD.get());
+    }
+
+    private static Optional<String> topLevelClass(TestDescriptor descriptor) {
+        TestDescriptor current = descriptor;
+        while (current.getParent().map(parent -> !parent.isRoot()).orElse(false)) {
+            current = current.getParent().get();
+        }
+        if (current.isRoot() || !(current.getSource().orElse(null) instanceof ClassSource source)) {
+            return Optional.empty();
+        }
+        return Optional.of(source.getClassName());
+    }
+
+    private static ShardPlan plan(Shard shard) {
+        String weights = System.getProperty("shard.weights", "").trim();
+        ShardPlan plan = weights.isEmpty()
+                ? ShardPlan.hashed(shard.count())
+                : ShardPlan.weighted(DurationHistory.load(Paths.get(weights)).classMillis(), shard.count());
+        RunReport.register("Shard", () -> {
+            StringBuilder out = new StringBuilder(plan.describe(shard))
+                    .append(": ").append(MINE.size()).append(" classes here, ").append(OTHERS.size()).append(" on other shards");
+            MINE.forEach(className -> out.append("\n  ").append(className));
+            return out.toString();
+        });
+        return plan;
+    }
+}
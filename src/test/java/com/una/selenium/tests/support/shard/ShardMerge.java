@@ -0,0 +1,179 @@
+package com.una.selenium.tests.support.shard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Combines the output directories of several shards into one:
+ * {@code java -cp target/test-classes com.una.selenium.tests.support.shard.ShardMerge <out> <shard-dir>...}
+ *
+ * Each shard directory holds what one JVM wrote (surefire-reports/, selenium-reports/, screenshots/...).
+ * Files are copied to the same relative path in {@code <out>}:
+ * - identical files (e.g. the content-addressed screenshot blobs) are copied once;
+ * - .tsv files (screenshot index, duration history...) are concatenated without duplicate lines;
+ * - any other clash (phase-timings.xml, command-latency.json...) keeps each shard's copy as name.&lt;shard&gt;.ext.
+ *
+ * Writes {@code <out>/shard-summary.txt} with the Surefire totals per shard and overall, and exits with 1
+ * when a shard has failures, errors or no Surefire report at all.
+ */
+public final class ShardMerge {
+
+    private static final Pattern SUITE_ATTRIBUTE = Pattern.compile("\\b(tests|failures|errors|skipped|time)=\"([^\"]*)\"");
+
+    private final Path output;
+
+    record Totals(int tests, int failures, int errors, int skipped, double seconds) {
+
+        static final Totals NONE = new Totals(0, 0, 0, 0, 0);
+
+        Totals plus(Totals other) {
+            return new Totals(tests + other.tests, failures + other.failures, errors + other.errors,
+                    skipped + other.skipped, seconds + other.seconds);
+        }
+
+        boolean failed() {
+            return failures > 0 || errors > 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "tests=%d, failures=%d, errors=%d, skipped=%d, time=%.1f s",
+                    tests, failures, errors, skipped, seconds);
+        }
+    }
+
+    ShardMerge(Path output) {
+        this.output = output;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: ShardMerge <output-dir> <shard-dir>...");
+            System.exit(2);
+        }
+        ShardMerge merge = new ShardMerge(Paths.get(args[0]));
+        List<Path> shards = Arrays.stream(args, 1, args.length).map(Paths::get).toList();
+        String summary = merge.merge(shards);
+        System.out.println(summary);
+        System.exit(summary.contains("FAILED") ? 1 : 0);
+    }
+
+    /**
+     * Merges the shard directories and returns the summary (also written to shard-summary.txt).
+     */
+    String merge(List<Path> shards) {
+        StringBuilder summary = new StringBuilder();
+        Totals total = Totals.NONE;
+        boolean failed = false;
+        try {
+            Files.createDirectories(output);
+            for (Path shard : shards) {
+                copyTree(shard);
+                Totals totals = surefireTotals(shard.resolve("surefire-reports"));
+                boolean missing = totals.equals(Totals.NONE) && !Files.isDirectory(shard.resolve("surefire-reports"));
+                failed |= totals.failed() || missing;
+                total = total.plus(totals);
+                summary.append(String.format("%-12s %s%s%n", shard.getFileName(), missing ? "no surefire-reports" : totals,
+                        totals.failed() || missing ? "  FAILED" : ""));
+            }
+            summary.append(String.format("%-12s %s%s", "total", total, failed ? "  FAILED" : ""));
+            Files.writeString(output.resolve("shard-summary.txt"), summary + System.lineSeparator(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not merge the shards into " + output, e);
+        }
+        return summary.toString();
+    }
+
+    private void copyTree(Path shard) throws IOException {
+        if (!Files.isDirectory(shard)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(shard)) {
+            files = walk.filter(Files::isRegularFile).sorted().toList();
+        }
+        for (Path file : files) {
+            Path target = output.resolve(shard.relativize(file).toString());
+            Files.createDirectories(target.getParent());
+            if (!Files.exists(target)) {
+                Files.copy(file, target, StandardCopyOption.COPY_ATTRIBUTES);
+            } else if (Files.mismatch(file, target) == -1) {
+                // Same content (e.g. a screenshot blob both shards produced): nothing to do
+            } else if (target.getFileName().toString().endsWith(".tsv")) {
+                appendNewLines(file, target);
+            } else {
+                Files.copy(file, renamed(target, shard.getFileName().toString()), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private static void appendNewLines(Path from, Path to) throws IOException {
+        Set<String> existing = new LinkedHashSet<>(Files.readAllLines(to, StandardCharsets.UTF_8));
+        List<String> added = new ArrayList<>();
+        for (String line : Files.readAllLines(from, StandardCharsets.UTF_8)) {
+            if (existing.add(line)) {
+                added.add(line);
+            }
+        }
+        Files.write(to, added, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    static Path renamed(Path target, String shardName) {
+        String name = target.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return target.resolveSibling(dot > 0
+                ? name.substring(0, dot) + "." + shardName + name.substring(dot)
+                : name + "." + shardName);
+    }
+
+    static Totals surefireTotals(Path reports) throws IOException {
+        if (!Files.isDirectory(reports)) {
+            return Totals.NONE;
+        }
+        Totals totals = Totals.NONE;
+        try (Stream<Path> list = Files.list(reports)) {
+            for (Path report : list.filter(p -> p.getFileName().toString().matches("TEST-.*\\.xml")).toList()) {
+                totals = totals.plus(suiteTotals(Files.readString(report, StandardCharsets.UTF_8)));
+            }
+        }
+        return totals;
+    }
+
+    // Attributes of the <testsuite> root element written by Surefire
+    static Totals suiteTotals(String xml) {
+        int start = xml.indexOf("<testsuite");
+        if (start < 0) {
+            return Totals.NONE;
+        }
+        String element = xml.substring(start, xml.indexOf('>', start));
+        int tests = 0, failures = 0, errors = 0, skipped = 0;
+        double seconds = 0;
+        Matcher matcher = SUITE_ATTRIBUTE.matcher(element);
+        while (matcher.find()) {
+            String value = matcher.group(2).replace(",", "");
+            switch (matcher.group(1)) {
+                case "tests" -> tests = Integer.parseInt(value);
+                case "failures" -> failures = Integer.parseInt(value);
+                case "errors" -> errors = Integer.parseInt(value);
+                case "skipped" -> skipped = Integer.parseInt(value);
+                default -> seconds = Double.parseDouble(value);
+            }
+        }
+        return new Totals(tests, failures, errors, skipped, seconds);
+    }
+}
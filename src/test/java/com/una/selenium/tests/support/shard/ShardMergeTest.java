@@ -0,0 +1,57 @@
+package com.una.selenium.tests.support.shard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Merges two fake shard output directories.
+ */
+public class ShardMergeTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void combinesReportsArtifactsAndTotals() throws Exception {
+        Path one = write("1", "surefire-reports/TEST-a.AlphaTest.xml", suite(3, 0, 0));
+        write("1", "screenshots/blobs/ab/abcd.png", "same");
+        write("1", "screenshots/index.tsv", "t1\tAlphaTest#x\tab/abcd.png\n");
+        write("1", "selenium-reports/phase-timings.json", "{\"shard\":1}");
+        Path two = write("2", "surefire-reports/TEST-b.BetaTest.xml", suite(2, 1, 0));
+        write("2", "screenshots/blobs/ab/abcd.png", "same");
+        write("2", "screenshots/index.tsv", "t2\tBetaTest#y\tab/abcd.png\n");
+        write("2", "selenium-reports/phase-timings.json", "{\"shard\":2}");
+
+        Path merged = dir.resolve("merged");
+        String summary = new ShardMerge(merged).merge(List.of(one, two));
+
+        assertTrue(Files.exists(merged.resolve("surefire-reports/TEST-a.AlphaTest.xml")));
+        assertTrue(Files.exists(merged.resolve("surefire-reports/TEST-b.BetaTest.xml")));
+        assertEquals("same", Files.readString(merged.resolve("screenshots/blobs/ab/abcd.png")));
+        assertEquals(List.of("t1\tAlphaTest#x\tab/abcd.png", "t2\tBetaTest#y\tab/abcd.png"),
+                Files.readAllLines(merged.resolve("screenshots/index.tsv")));
+        assertEquals("{\"shard\":1}", Files.readString(merged.resolve("selenium-reports/phase-timings.json")));
+        assertEquals("{\"shard\":2}", Files.readString(merged.resolve("selenium-reports/phase-timings.2.json")));
+
+        assertTrue(summary.contains("total        tests=5, failures=1, errors=0, skipped=0, time=2.0 s  FAILED"), summary);
+        assertEquals(summary + System.lineSeparator(), Files.readString(merged.resolve("shard-summary.txt")));
+    }
+
+    private Path write(String shard, String relative, String content) throws Exception {
+        Path file = dir.resolve(shard).resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        return dir.resolve(shard);
+    }
+
+    private static String suite(int tests, int failures, int errors) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuite name=\"x\" time=\"1.0\" tests=\"" + tests
+                + "\" errors=\"" + errors + "\" skipped=\"0\" failures=\"" + failures + "\">\n</testsuite>\n";
+    }
+}
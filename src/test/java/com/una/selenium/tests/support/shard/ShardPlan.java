@@ -0,0 +1,90 @@
+package com.una.selenium.tests.support.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Assignment of test classes to shards. Every node computes the plan on its own, without talking to the others, so
+ * every JVM must compute the same partition from the same inputs: the plan may only depend on what is identical on
+ * all nodes (class names, shard count, a shared weights file), never on discovery order or local state.
+ * - hashing (default): a class goes to shard {@code crc32(className) mod N + 1}; it never moves when other
+ *   classes are added or removed, but the shards are only balanced on average;
+ * - weights: the classes of a duration history file that all nodes share (-Dshard.weights=&lt;file&gt;) are dealt
+ *   longest first to the least loaded shard (ties go to the lowest shard). Classes missing from the file are hashed.
+ */
+public final class ShardPlan {
+
+    private final int count;
+    // Class name -> 1-based shard, for weighted plans
+    private final Map<String, Integer> assignment = new TreeMap<>();
+    private final long[] load;
+
+    private ShardPlan(int count) {
+        this.count = count;
+        this.load = new long[count];
+    }
+
+    public static ShardPlan hashed(int count) {
+        return new ShardPlan(count);
+    }
+
+    public static ShardPlan weighted(Map<String, Long> classMillis, int count) {
+        ShardPlan plan = new ShardPlan(count);
+        Comparator<String> byWeight = Comparator.comparing(classMillis::get);
+        List<String> heaviestFirst = new ArrayList<>(classMillis.keySet());
+        heaviestFirst.sort(byWeight.reversed().thenComparing(Comparator.naturalOrder()));
+        for (String className : heaviestFirst) {
+            int lightest = 0;
+            for (int shard = 1; shard < count; shard++) {
+                if (plan.load[shard] < plan.load[lightest]) {
+                    lightest = shard;
+                }
+            }
+            plan.assignment.put(className, lightest + 1);
+            plan.load[lightest] += classMillis.get(className);
+        }
+        return plan;
+    }
+
+    static int hashShard(String className, int count) {
+        CRC32 crc = new CRC32();
+        crc.update(className.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % count) + 1;
+    }
+
+    /**
+     * Whether the class runs on the given shard.
+     */
+    public boolean owns(Shard shard, String className) {
+        Integer assigned = assignment.get(className);
+        return (assigned != null ? assigned : hashShard(className, count)) == shard.index();
+    }
+
+    List<String> weightedClassesOf(Shard shard) {
+        return assignment.entrySet().stream()
+                .filter(entry -> entry.getValue() == shard.index())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Strategy and, for weighted plans, the expected load of every shard.
+     */
+    String describe(Shard shard) {
+        if (assignment.isEmpty()) {
+            return "shard " + shard + " (hash)";
+        }
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT, "shard %s (weights): expected %.1f s (shards: ",
+                shard, load[shard.index() - 1] / 1000.0));
+        for (int i = 0; i < count; i++) {
+            out.append(i == 0 ? "" : " / ").append(String.format(Locale.ROOT, "%.1f", load[i] / 1000.0));
+        }
+        return out.append(" s)").toString();
+    }
+}
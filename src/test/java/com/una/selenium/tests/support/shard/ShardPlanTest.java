@@ -0,0 +1,54 @@
+package com.una.selenium.tests.support.shard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that every shard computes the same partition and that together the shards run each class exactly once.
+ */
+public class ShardPlanTest {
+
+    private static final List<String> CLASSES = IntStream.rangeClosed(1, 40)
+            .mapToObj(i -> "com.example.Suite" + i + "Test").toList();
+
+    @Test
+    void parsesOneBasedShardSpec() {
+        assertEquals(new Shard(2, 4), Shard.parse(" 2/4"));
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse("0/4"));
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse("5/4"));
+        assertThrows(IllegalArgumentException.class, () -> Shard.parse("2"));
+    }
+
+    @Test
+    void hashedShardsRunEveryClassExactlyOnce() {
+        ShardPlan plan = ShardPlan.hashed(3);
+        int[] perShard = new int[3];
+        for (String className : CLASSES) {
+            List<Integer> owners = IntStream.rangeClosed(1, 3).filter(i -> plan.owns(new Shard(i, 3), className)).boxed().toList();
+            assertEquals(1, owners.size(), className);
+            perShard[owners.get(0) - 1]++;
+        }
+        for (int classes : perShard) {
+            assertTrue(classes > 0, "Every shard should get some of the 40 classes");
+        }
+    }
+
+    @Test
+    void weightedShardsDealLongestClassesToTheLeastLoadedShard() {
+        Map<String, Long> weights = Map.of("A", 9_000L, "B", 5_000L, "C", 4_000L, "D", 3_000L, "E", 1_000L);
+        ShardPlan plan = ShardPlan.weighted(weights, 2);
+
+        assertEquals(List.of("A", "D"), plan.weightedClassesOf(new Shard(1, 2)));
+        assertEquals(List.of("B", "C", "E"), plan.weightedClassesOf(new Shard(2, 2)));
+        assertTrue(plan.describe(new Shard(1, 2)).contains("12.0 / 10.0 s"), plan.describe(new Shard(1, 2)));
+
+        // Classes without history fall back to hashing
+        String unknown = "com.example.NewTest";
+        assertTrue(plan.owns(new Shard(ShardPlan.hashShard(unknown, 2), 2), unknown));
+    }
+}
@@ -0,0 +1,187 @@
+package com.una.selenium.tests.support.timing;
+
+import com.una.selenium.tests.support.report.RunReport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Test durations across runs, in a small tab-separated file (-Dselenium.history.file, default .test-durations.tsv
+ * in the project directory, which {@code mvn clean} keeps): {@code class#method  expectedMillis  runs}.
+ *
+ * The expected duration is an exponentially weighted average (new run weighs 30%), so one slow run does not
+ * reorder the suite but a real change shows up after a few runs. Durations come from {@link PhaseTimingExtension}
+ * (whole test, including driver lease and watchers, of the classes that use a browser); the file is merged and
+ * rewritten once, when the test JVM exits.
+ */
+public final class DurationHistory {
+
+    private static final double WEIGHT_OF_NEW_RUN = 0.3;
+    // Estimate for tests never seen before, when there is no history at all
+    private static final long DEFAULT_TEST_MILLIS = 5_000;
+
+    private final Path file;
+    private final Map<String, Entry> entries = new TreeMap<>();
+    private final Map<String, Long> thisRun = new ConcurrentHashMap<>();
+
+    record Entry(long expectedMillis, int runs) {
+
+        Entry update(long millis) {
+            return new Entry(Math.round(expectedMillis * (1 - WEIGHT_OF_NEW_RUN) + millis * WEIGHT_OF_NEW_RUN), runs + 1);
+        }
+    }
+
+    DurationHistory(Path file) {
+        this.file = file;
+        entries.putAll(read(file));
+    }
+
+    public static DurationHistory shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * A read-only view of another history file (e.g. the one a CI job publishes for sharding).
+     */
+    public static DurationHistory load(Path file) {
+        return new DurationHistory(file);
+    }
+
+    static String key(String className, String methodName) {
+        return className + "#" + methodName;
+    }
+
+    /**
+     * Expected duration of a test method, if it ran before.
+     */
+    public synchronized OptionalLong expectedMillis(String className, String methodName) {
+        Entry entry = entries.get(key(className, methodName));
+        return entry == null ? OptionalLong.empty() : OptionalLong.of(entry.expectedMillis());
+    }
+
+    /**
+     * Estimate for tests without history: the median of the known tests, or 5 s for an empty history.
+     */
+    public synchronized long defaultMillis() {
+        if (entries.isEmpty()) {
+            return DEFAULT_TEST_MILLIS;
+        }
+        List<Long> known = entries.values().stream().map(Entry::expectedMillis).sorted().toList();
+        return known.get(known.size() / 2);
+    }
+
+    /**
+     * Expected duration of a test method, falling back to {@link #defaultMillis()}.
+     */
+    public long estimateMillis(String className, String methodName) {
+        return expectedMillis(className, methodName).orElseGet(this::defaultMillis);
+    }
+
+    /**
+     * Expected duration per test class (sum of its known methods), by class name.
+     */
+    public synchronized Map<String, Long> classMillis() {
+        Map<String, Long> classes = new TreeMap<>();
+        entries.forEach((key, entry) -> {
+            int separator = key.indexOf('#');
+            if (separator > 0) {
+                classes.merge(key.substring(0, separator), entry.expectedMillis(), Long::sum);
+            }
+        });
+        return classes;
+    }
+
+    void record(String className, String methodName, long nanos) {
+        thisRun.merge(key(className, methodName), nanos / 1_000_000, Long::sum);
+    }
+
+    /**
+     * Merges the durations recorded since the last save into the file (re-read first, so concurrent JVMs lose as
+     * little as possible).
+     */
+    synchronized void save() {
+        if (thisRun.isEmpty()) {
+            return;
+        }
+        Map<String, Entry> merged = new TreeMap<>(read(file));
+        thisRun.forEach((key, millis) -> merged.merge(key, new Entry(millis, 1), (old, first) -> old.update(millis)));
+        StringBuilder content = new StringBuilder();
+        merged.forEach((key, entry) -> content.append(key).append('\t').append(entry.expectedMillis())
+                .append('\t').append(entry.runs()).append('\n'));
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "test-durations", ".tmp");
+            Files.writeString(temp, content, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not save the duration history " + file, e);
+        }
+        entries.clear();
+        entries.putAll(merged);
+        // Saved durations must not be applied again by a later save
+        thisRun.clear();
+    }
+
+    String report() {
+        return String.format(Locale.ROOT, "%d tests recorded this run, merged at exit into %s (%d tests known)",
+                thisRun.size(), file, entries.size());
+    }
+
+    private static Map<String, Entry> read(Path file) {
+        Map<String, Entry> read = new TreeMap<>();
+        if (!Files.isRegularFile(file)) {
+            return read;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String[] fields = line.split("\t");
+                if (fields.length == 3) {
+                    read.put(fields[0], new Entry(Long.parseLong(fields[1]), Integer.parseInt(fields[2])));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Only the ordering suffers from a bad history: start from scratch
+            System.err.println("Ignoring unreadable duration history " + file + ": " + e.getMessage());
+            read.clear();
+        }
+        return read;
+    }
+
+    static Path defaultFile() {
+        String configured = System.getProperty("selenium.history.file");
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        // Per project (the test classes of other projects have nothing to do with this suite's order),
+        // outside target/ so that it survives mvn clean
+        return Paths.get(".test-durations.tsv");
+    }
+
+    private static final class Holder {
+        static final DurationHistory INSTANCE = new DurationHistory(defaultFile());
+
+        static {
+            RunReport.register("Duration history", INSTANCE::report);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    INSTANCE.save();
+                } catch (UncheckedIOException e) {
+                    // Only the ordering of the next run suffers
+                    System.err.println(e.getMessage() + ": " + e.getCause().getMessage());
+                }
+            }, "duration-history-save"));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.una.selenium.tests.support.timing;
+
+import com.una.selenium.tests.support.driver.DriverPoolExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Persistence, smoothing and default estimates of the duration history.
+ */
+public class DurationHistoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void smoothsDurationsAcrossRuns() {
+        Path file = tempDir.resolve("test-durations.tsv");
+        DurationHistory first = new DurationHistory(file);
+        first.record("a.NavigationHistoryTest", "testBrowserHistoryNavigation", 10_000_000_000L);
+        first.save();
+
+        DurationHistory second = new DurationHistory(file);
+        assertEquals(10_000, second.expectedMillis("a.NavigationHistoryTest", "testBrowserHistoryNavigation").orElseThrow());
+        second.record("a.NavigationHistoryTest", "testBrowserHistoryNavigation", 20_000_000_000L);
+        second.save();
+        // Nothing new since the last save: the run must not be applied twice
+        second.save();
+
+        // 70% of the previous estimate + 30% of the new run
+        assertEquals(13_000, new DurationHistory(file).expectedMillis("a.NavigationHistoryTest", "testBrowserHistoryNavigation").orElseThrow());
+    }
+
+    @Test
+    void unknownTestsGetTheMedianOrFiveSeconds() {
+        DurationHistory history = new DurationHistory(tempDir.resolve("empty.tsv"));
+        assertEquals(5_000, history.estimateMillis("a.New", "test"));
+
+        history.record("a.A", "fast", 1_000_000_000L);
+        history.record("a.A", "medium", 2_000_000_000L);
+        history.record("a.B", "slow", 9_000_000_000L);
+        history.save();
+        assertEquals(2_000, history.estimateMillis("a.New", "test"));
+    }
+
+    @Test
+    void classEstimateSumsItsTestMethods() {
+        DurationHistory history = new DurationHistory(tempDir.resolve("classes.tsv"));
+        history.record(TwoTests.class.getName(), "slow", 8_000_000_000L);
+        history.record(TwoTests.class.getName(), "fast", 1_000_000_000L);
+        history.save();
+
+        assertEquals(9_000, LongestFirstClassOrderer.expectedMillis(history, TwoTests.class));
+    }
+
+    @Test
+    void classesWithoutABrowserComeLast() {
+        DurationHistory history = new DurationHistory(tempDir.resolve("none.tsv"));
+
+        assertEquals(10_000, LongestFirstClassOrderer.expectedMillis(history, TwoTests.class));
+        assertEquals(0, LongestFirstClassOrderer.expectedMillis(history, DurationHistoryTest.class));
+    }
+
+    // Abstract, so JUnit does not run it (and record it in the real history)
+    @ExtendWith(DriverPoolExtension.class)
+    abstract static class TwoTests {
+        @Test
+        void slow() {
+        }
+
+        @Test
+        void fast() {
+        }
+    }
+}
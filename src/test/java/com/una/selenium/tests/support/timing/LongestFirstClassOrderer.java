@@ -0,0 +1,39 @@
+package com.una.selenium.tests.support.timing;
+
+import com.una.selenium.tests.support.driver.DriverPoolExtension;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+
+/**
+ * Starts the test classes with the most expected work first (sum of their methods' expected durations from
+ * {@link DurationHistory}), so in a parallel run the long classes do not end up running alone at the end.
+ * Methods without history count with the history's default estimate. Classes that use no browser (no
+ * {@link DriverPoolExtension}) take milliseconds and are never recorded, so they count as no work at all.
+ */
+public class LongestFirstClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        DurationHistory history = DurationHistory.shared();
+        context.getClassDescriptors().sort(Comparator.comparingLong(
+                (ClassDescriptor descriptor) -> expectedMillis(history, descriptor.getTestClass())).reversed());
+    }
+
+    static long expectedMillis(DurationHistory history, Class<?> testClass) {
+        if (!DriverPoolExtension.isUsedBy(testClass)) {
+            return 0;
+        }
+        long total = 0;
+        for (Method method : AnnotationSupport.findAnnotatedMethods(testClass, Test.class, HierarchyTraversalMode.TOP_DOWN)) {
+            total += history.estimateMillis(testClass.getName(), method.getName());
+        }
+        return total;
+    }
+}
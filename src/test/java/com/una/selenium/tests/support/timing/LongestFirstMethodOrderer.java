@@ -0,0 +1,31 @@
+package com.una.selenium.tests.support.timing;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Starts the test methods with the longest expected duration ({@link DurationHistory}) first.
+ */
+public class LongestFirstMethodOrderer implements MethodOrderer {
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        DurationHistory history = DurationHistory.shared();
+        String className = context.getTestClass().getName();
+        context.getMethodDescriptors().sort(Comparator.comparingLong(
+                (MethodDescriptor descriptor) -> history.estimateMillis(className, descriptor.getMethod().getName())).reversed());
+    }
+
+    /**
+     * Keep the configured execution mode: the default of MethodOrderer would force the methods onto one thread.
+     */
+    @Override
+    public Optional<ExecutionMode> getDefaultExecutionMode() {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,34 @@
+package com.una.selenium.tests.support.timing;
+
+/**
+ * The parts of a test's lifetime measured by {@link PhaseTimingExtension}.
+ */
+public enum Phase {
+    BEFORE_ALL("beforeAll", "@BeforeAll"),
+    EXTENSIONS_BEFORE("extensionsBefore", "driver lease & extensions before"),
+    SETUP("setup", "@BeforeEach"),
+    BODY("body", "test body"),
+    TEARDOWN("teardown", "@AfterEach"),
+    EXTENSIONS_AFTER("extensionsAfter", "extensions after"),
+    WATCHERS("watchers", "watchers & driver release"),
+    AFTER_ALL("afterAll", "@AfterAll");
+
+    private final String id;
+    private final String label;
+
+    Phase(String id, String label) {
+        this.id = id;
+        this.label = label;
+    }
+
+    /**
+     * Stable key used in the XML/JSON sidecars.
+     */
+    public String id() {
+        return id;
+    }
+
+    public String label() {
+        return label;
+    }
+}
@@ -0,0 +1,196 @@
+package com.una.selenium.tests.support.timing;
+
+import com.una.selenium.tests.support.driver.DriverPoolExtension;
+import com.una.selenium.tests.support.report.RunReport;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Splits every test's duration into phases: driver lease and other extensions before the test, @BeforeEach,
+ * test body, @AfterEach, extensions after the test, and TestWatchers (screenshot, forensics) plus the driver's
+ * return to the pool; @BeforeAll/@AfterAll are counted per class.
+ *
+ * Registered for every test class through JUnit's extension autodetection (META-INF/services + junit-platform.properties),
+ * so it is registered before all other extensions: its before-callback runs first and its after-callback and
+ * TestWatcher run last, which lets it attribute the gaps between them to the other extensions.
+ *
+ * At the end of the run the "Phase timings" report section shows the totals per class with the slowest phase flagged,
+ * and target/selenium-reports/phase-timings.xml (JUnit/Surefire XML layout, phases as properties) and phase-timings.json
+ * are written for dashboards. Test durations are also kept across runs in the {@link DurationHistory}.
+ */
+public class PhaseTimingExtension implements BeforeEachCallback, AfterEachCallback, InvocationInterceptor, TestWatcher {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(PhaseTimingExtension.class);
+    private static final PhaseTimings TIMINGS = new PhaseTimings();
+
+    static {
+        RunReport.register("Phase timings", PhaseTimingExtension::report);
+    }
+
+    // Timestamps of one test; the phases are derived from the gaps between them
+    private static final class TestClock {
+        final long started = System.nanoTime();
+        final Map<Phase, Long> nanos = new EnumMap<>(Phase.class);
+        long bodyStarted;
+        long bodyFinished;
+        long afterEachFinished;
+
+        void add(Phase phase, long duration) {
+            nanos.merge(phase, duration, Long::sum);
+        }
+
+        long get(Phase phase) {
+            return nanos.getOrDefault(phase, 0L);
+        }
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        RunReport.install(context);
+        // The method store is closed before TestWatchers run, so the clock lives in the parent (class) store
+        parentStore(context).put(context.getUniqueId(), new TestClock());
+    }
+
+    @Override
+    public void interceptBeforeAllMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                         ExtensionContext extensionContext) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            invocation.proceed();
+        } finally {
+            TIMINGS.addClassPhase(extensionContext.getRequiredTestClass().getName(), Phase.BEFORE_ALL, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void interceptBeforeEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                          ExtensionContext extensionContext) throws Throwable {
+        timed(invocation, extensionContext, Phase.SETUP);
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        Optional<TestClock> clock = clock(extensionContext);
+        clock.ifPresent(c -> c.bodyStarted = System.nanoTime());
+        try {
+            invocation.proceed();
+        } finally {
+            clock.ifPresent(c -> {
+                c.bodyFinished = System.nanoTime();
+                c.add(Phase.BODY, c.bodyFinished - c.bodyStarted);
+            });
+        }
+    }
+
+    @Override
+    public void interceptAfterEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                         ExtensionContext extensionContext) throws Throwable {
+        timed(invocation, extensionContext, Phase.TEARDOWN);
+    }
+
+    @Override
+    public void interceptAfterAllMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                        ExtensionContext extensionContext) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            invocation.proceed();
+        } finally {
+            TIMINGS.addClassPhase(extensionContext.getRequiredTestClass().getName(), Phase.AFTER_ALL, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        clock(context).ifPresent(clock -> {
+            clock.afterEachFinished = System.nanoTime();
+            if (clock.bodyStarted == 0) {
+                // Setup failed: everything outside @BeforeEach/@AfterEach belongs to the extensions before the test
+                clock.add(Phase.EXTENSIONS_BEFORE, clock.afterEachFinished - clock.started
+                        - clock.get(Phase.SETUP) - clock.get(Phase.TEARDOWN));
+            } else {
+                clock.add(Phase.EXTENSIONS_BEFORE, clock.bodyStarted - clock.started - clock.get(Phase.SETUP));
+                clock.add(Phase.EXTENSIONS_AFTER, clock.afterEachFinished - clock.bodyFinished - clock.get(Phase.TEARDOWN));
+            }
+        });
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        finish(context, "successful");
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        finish(context, "failed");
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        finish(context, "aborted");
+    }
+
+    private static void finish(ExtensionContext context, String status) {
+        TestClock clock = parentStore(context).remove(context.getUniqueId(), TestClock.class);
+        if (clock == null || clock.afterEachFinished == 0) {
+            return;
+        }
+        // Runs after every other TestWatcher (and the driver's release by DriverPoolExtension)
+        clock.add(Phase.WATCHERS, System.nanoTime() - clock.afterEachFinished);
+        PhaseTimings.TestTiming timing = new PhaseTimings.TestTiming(context.getRequiredTestClass().getName(),
+                context.getTestMethod().map(Method::getName).orElse(context.getDisplayName()), status, Map.copyOf(clock.nanos));
+        TIMINGS.addTest(timing);
+        // Feeds the longest-first ordering of the next runs; tests without a browser take milliseconds and are left out
+        if (DriverPoolExtension.isUsedBy(context.getRequiredTestClass())) {
+            DurationHistory.shared().record(timing.testClass(), timing.testName(), timing.totalNanos());
+        }
+    }
+
+    private static void timed(Invocation<Void> invocation, ExtensionContext context, Phase phase) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            invocation.proceed();
+        } finally {
+            long duration = System.nanoTime() - start;
+            clock(context).ifPresent(clock -> clock.add(phase, duration));
+        }
+    }
+
+    private static Optional<TestClock> clock(ExtensionContext context) {
+        return Optional.ofNullable(parentStore(context).get(context.getUniqueId(), TestClock.class));
+    }
+
+    private static ExtensionContext.Store parentStore(ExtensionContext context) {
+        return context.getParent().orElse(context).getStore(NAMESPACE);
+    }
+
+    static String report() {
+        if (TIMINGS.isEmpty()) {
+            return "no tests timed";
+        }
+        StringBuilder out = new StringBuilder(TIMINGS.text()).append('\n');
+        Path directory = RunReport.directory();
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("phase-timings.xml"), TIMINGS.xml());
+            Files.writeString(directory.resolve("phase-timings.json"), TIMINGS.json());
+            out.append("Sidecars: ").append(directory.resolve("phase-timings.xml")).append(", ")
+                    .append(directory.resolve("phase-timings.json"));
+        } catch (IOException e) {
+            out.append("Could not write the phase timing sidecars: ").append(e.getMessage());
+        }
+        return out.toString();
+    }
+}
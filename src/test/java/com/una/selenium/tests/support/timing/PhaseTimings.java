@@ -0,0 +1,156 @@
+package com.una.selenium.tests.support.timing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Collected phase timings of the run, per class and per test, and their text/XML/JSON renderings.
+ */
+final class PhaseTimings {
+
+    record TestTiming(String testClass, String testName, String status, Map<Phase, Long> nanos) {
+
+        long totalNanos() {
+            return nanos.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private final Map<String, ConcurrentLinkedQueue<TestTiming>> tests = new ConcurrentSkipListMap<>();
+    private final Map<String, Map<Phase, Long>> classPhases = new ConcurrentHashMap<>();
+
+    void addTest(TestTiming timing) {
+        tests.computeIfAbsent(timing.testClass(), key -> new ConcurrentLinkedQueue<>()).add(timing);
+    }
+
+    void addClassPhase(String testClass, Phase phase, long nanos) {
+        classPhases.computeIfAbsent(testClass, key -> new ConcurrentHashMap<>()).merge(phase, nanos, Long::sum);
+    }
+
+    boolean isEmpty() {
+        return tests.isEmpty();
+    }
+
+    /**
+     * Sum of every phase over the class's tests, plus its @BeforeAll/@AfterAll.
+     */
+    Map<Phase, Long> totals(String testClass) {
+        Map<Phase, Long> totals = new EnumMap<>(Phase.class);
+        for (TestTiming timing : tests.getOrDefault(testClass, new ConcurrentLinkedQueue<>())) {
+            timing.nanos().forEach((phase, nanos) -> totals.merge(phase, nanos, Long::sum));
+        }
+        classPhases.getOrDefault(testClass, Map.of()).forEach((phase, nanos) -> totals.merge(phase, nanos, Long::sum));
+        return totals;
+    }
+
+    String text() {
+        StringBuilder out = new StringBuilder();
+        for (String testClass : tests.keySet()) {
+            Map<Phase, Long> totals = totals(testClass);
+            Phase slowest = slowest(totals);
+            out.append(simpleName(testClass)).append(String.format(Locale.ROOT, " (%.1f ms)%n", sum(totals) / 1_000_000.0));
+            totals.forEach((phase, nanos) -> out.append(String.format(Locale.ROOT, "    %-34s %10.1f ms%s%n",
+                    phase.label(), nanos / 1_000_000.0, phase == slowest ? "   <- slowest" : "")));
+        }
+        out.append("Slowest test phases:\n");
+        allTests().stream()
+                .flatMap(timing -> timing.nanos().entrySet().stream()
+                        .map(entry -> Map.entry(simpleName(timing.testClass()) + "." + timing.testName() + " / "
+                                + entry.getKey().label(), entry.getValue())))
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(5)
+                .forEach(entry -> out.append(String.format(Locale.ROOT, "    %-70s %10.1f ms%n",
+                        entry.getKey(), entry.getValue() / 1_000_000.0)));
+        return out.toString().stripTrailing();
+    }
+
+    /**
+     * JUnit/Surefire-style XML: one testsuite per class, phase durations (seconds) as properties.
+     */
+    String xml() {
+        StringBuilder out = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuites name=\"phase-timings\">\n");
+        for (String testClass : tests.keySet()) {
+            Map<Phase, Long> totals = totals(testClass);
+            out.append(String.format(Locale.ROOT, "  <testsuite name=\"%s\" tests=\"%d\" time=\"%.3f\">%n",
+                    escape(testClass), tests.get(testClass).size(), sum(totals) / 1e9));
+            appendProperties(out, "    ", totals, slowest(totals));
+            for (TestTiming timing : tests.get(testClass)) {
+                out.append(String.format(Locale.ROOT, "    <testcase classname=\"%s\" name=\"%s\" time=\"%.3f\">%n",
+                        escape(testClass), escape(timing.testName()), timing.totalNanos() / 1e9));
+                appendProperties(out, "      ", timing.nanos(), null);
+                if (!"successful".equals(timing.status())) {
+                    out.append("      <").append("aborted".equals(timing.status()) ? "skipped" : "failure")
+                            .append(" message=\"").append(timing.status()).append("\"/>\n");
+                }
+                out.append("    </testcase>\n");
+            }
+            out.append("  </testsuite>\n");
+        }
+        return out.append("</testsuites>\n").toString();
+    }
+
+    String json() {
+        List<String> classes = new ArrayList<>();
+        for (String testClass : tests.keySet()) {
+            Map<Phase, Long> totals = totals(testClass);
+            List<String> testItems = new ArrayList<>();
+            for (TestTiming timing : tests.get(testClass)) {
+                testItems.add(String.format(Locale.ROOT, "      {\"name\": \"%s\", \"status\": \"%s\", \"totalMs\": %.3f, \"phasesMs\": %s}",
+                        jsonEscape(timing.testName()), timing.status(), timing.totalNanos() / 1e6, jsonPhases(timing.nanos())));
+            }
+            classes.add(String.format(Locale.ROOT, "    {\"class\": \"%s\", \"totalMs\": %.3f, \"slowestPhase\": \"%s\", \"phasesMs\": %s,%n"
+                            + "     \"tests\": [%n%s%n     ]}",
+                    jsonEscape(testClass), sum(totals) / 1e6, slowest(totals).id(), jsonPhases(totals), String.join(",\n", testItems)));
+        }
+        return "{\n  \"classes\": [\n" + String.join(",\n", classes) + "\n  ]\n}\n";
+    }
+
+    private List<TestTiming> allTests() {
+        List<TestTiming> all = new ArrayList<>();
+        tests.values().forEach(all::addAll);
+        return all;
+    }
+
+    private static void appendProperties(StringBuilder out, String indent, Map<Phase, Long> phases, Phase slowest) {
+        out.append(indent).append("<properties>\n");
+        phases.forEach((phase, nanos) -> out.append(String.format(Locale.ROOT,
+                "%s  <property name=\"phase.%s\" value=\"%.3f\"/>%n", indent, phase.id(), nanos / 1e9)));
+        if (slowest != null) {
+            out.append(indent).append("  <property name=\"phase.slowest\" value=\"").append(slowest.id()).append("\"/>\n");
+        }
+        out.append(indent).append("</properties>\n");
+    }
+
+    private static String jsonPhases(Map<Phase, Long> phases) {
+        List<String> items = new ArrayList<>();
+        phases.forEach((phase, nanos) -> items.add(String.format(Locale.ROOT, "\"%s\": %.3f", phase.id(), nanos / 1e6)));
+        return "{" + String.join(", ", items) + "}";
+    }
+
+    private static Phase slowest(Map<Phase, Long> phases) {
+        return phases.entrySet().stream().max(Comparator.comparingLong(Map.Entry::getValue))
+                .map(Map.Entry::getKey).orElse(Phase.BODY);
+    }
+
+    private static long sum(Map<Phase, Long> phases) {
+        return phases.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static String jsonEscape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
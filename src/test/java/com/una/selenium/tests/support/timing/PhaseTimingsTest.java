@@ -0,0 +1,37 @@
+package com.una.selenium.tests.support.timing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Aggregation per class and the sidecar formats of the phase timings.
+ */
+public class PhaseTimingsTest {
+
+    @Test
+    void aggregatesPerClassAndFlagsSlowestPhase() {
+        PhaseTimings timings = new PhaseTimings();
+        timings.addTest(new PhaseTimings.TestTiming("a.NavigationHistoryTest", "testBrowserHistoryNavigation", "successful",
+                Map.of(Phase.EXTENSIONS_BEFORE, 2_000_000_000L, Phase.BODY, 500_000_000L, Phase.WATCHERS, 100_000_000L)));
+        timings.addTest(new PhaseTimings.TestTiming("a.NavigationHistoryTest", "testOther", "failed",
+                Map.of(Phase.EXTENSIONS_BEFORE, 1_000_000_000L, Phase.BODY, 200_000_000L)));
+        timings.addClassPhase("a.NavigationHistoryTest", Phase.BEFORE_ALL, 50_000_000L);
+
+        assertEquals(3_000_000_000L, timings.totals("a.NavigationHistoryTest").get(Phase.EXTENSIONS_BEFORE));
+        assertTrue(timings.text().contains("driver lease & extensions before"), timings.text());
+        assertTrue(timings.text().lines().anyMatch(line -> line.contains("driver lease") && line.endsWith("<- slowest")),
+                timings.text());
+
+        String xml = timings.xml();
+        assertTrue(xml.contains("<testsuite name=\"a.NavigationHistoryTest\" tests=\"2\" time=\"3.850\">"), xml);
+        assertTrue(xml.contains("<property name=\"phase.slowest\" value=\"extensionsBefore\"/>"), xml);
+        assertTrue(xml.contains("<failure message=\"failed\"/>"), xml);
+
+        String json = timings.json();
+        assertTrue(json.contains("\"slowestPhase\": \"extensionsBefore\""), json);
+        assertTrue(json.contains("\"name\": \"testOther\", \"status\": \"failed\", \"totalMs\": 1200.000"), json);
+    }
+}
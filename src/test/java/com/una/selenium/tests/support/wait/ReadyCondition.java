@@ -0,0 +1,54 @@
+package com.una.selenium.tests.support.wait;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An {@link ExpectedCondition} that also describes itself to the page, so {@link ReadyWait} can be
+ * notified (MutationObserver, page lifecycle events) as soon as it may have become true, instead of polling.
+ * The Java condition always has the final word; the in-page signal only decides when to check it.
+ */
+public final class ReadyCondition<V> implements ExpectedCondition<V> {
+
+    private final ExpectedCondition<V> condition;
+    private final Map<String, Object> signal;
+
+    ReadyCondition(ExpectedCondition<V> condition, Map<String, Object> signal) {
+        this.condition = condition;
+        this.signal = Map.copyOf(signal);
+    }
+
+    @Override
+    public V apply(WebDriver driver) {
+        return condition.apply(driver);
+    }
+
+    /**
+     * Description of the condition for the in-page signal script (kind, locator or expected text, negation).
+     */
+    Map<String, Object> signal() {
+        return signal;
+    }
+
+    ExpectedCondition<V> condition() {
+        return condition;
+    }
+
+    String kind() {
+        return (Boolean.TRUE.equals(signal.get("negate")) ? "not " : "") + signal.get("kind");
+    }
+
+    ReadyCondition<Boolean> negated(ExpectedCondition<Boolean> negatedCondition) {
+        Map<String, Object> negatedSignal = new LinkedHashMap<>(signal);
+        negatedSignal.put("negate", !Boolean.TRUE.equals(signal.get("negate")));
+        return new ReadyCondition<>(negatedCondition, negatedSignal);
+    }
+
+    @Override
+    public String toString() {
+        return condition.toString();
+    }
+}
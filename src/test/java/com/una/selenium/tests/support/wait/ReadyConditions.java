@@ -0,0 +1,135 @@
+package com.una.selenium.tests.support.wait;
+
+import com.una.selenium.tests.support.script.LocatorScript;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Drop-in replacements for the {@link ExpectedConditions} used by the exercises, to be passed to {@link ReadyWait}.
+ * Each one evaluates exactly like its ExpectedConditions counterpart, but also tells the page what to watch for.
+ */
+public final class ReadyConditions {
+
+    private ReadyConditions() {
+    }
+
+    public static ReadyCondition<WebElement> presenceOfElementLocated(By locator) {
+        return element("present", ExpectedConditions.presenceOfElementLocated(locator), locator);
+    }
+
+    public static ReadyCondition<WebElement> visibilityOfElementLocated(By locator) {
+        return element("visible", ExpectedConditions.visibilityOfElementLocated(locator), locator);
+    }
+
+    public static ReadyCondition<WebElement> elementToBeClickable(By locator) {
+        return element("clickable", ExpectedConditions.elementToBeClickable(locator), locator);
+    }
+
+    /**
+     * The first clickable element matched by any of the locators, trying them in the given order
+     * (e.g. the alternatives of a {@link com.una.selenium.tests.support.locator.LocatorChain}).
+     */
+    public static ReadyCondition<WebElement> anyElementToBeClickable(By... locators) {
+        List<By> candidates = List.of(locators);
+        ExpectedCondition<WebElement> condition = new ExpectedCondition<>() {
+            @Override
+            public WebElement apply(WebDriver driver) {
+                for (By locator : candidates) {
+                    for (WebElement element : driver.findElements(locator)) {
+                        if (element.isDisplayed() && element.isEnabled()) {
+                            return element;
+                        }
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public String toString() {
+                return "any element to be clickable: " + candidates;
+            }
+        };
+        Map<String, Object> signal = new LinkedHashMap<>();
+        signal.put("kind", "any-clickable");
+        List<Map<String, Object>> specs = new ArrayList<>();
+        Arrays.stream(locators).map(LocatorScript::toSpec).flatMap(Optional::stream).forEach(specs::add);
+        // Only signalled when every alternative can be evaluated in the page
+        if (specs.size() == locators.length) {
+            signal.put("locators", List.copyOf(specs));
+        }
+        return new ReadyCondition<>(condition, signal);
+    }
+
+    public static ReadyCondition<Boolean> titleIs(String title) {
+        return text("title", "is", title, ExpectedConditions.titleIs(title));
+    }
+
+    public static ReadyCondition<Boolean> titleContains(String title) {
+        return text("title", "contains", title, ExpectedConditions.titleContains(title));
+    }
+
+    public static ReadyCondition<Boolean> urlToBe(String url) {
+        return text("url", "is", url, ExpectedConditions.urlToBe(url));
+    }
+
+    public static ReadyCondition<Boolean> urlContains(String fraction) {
+        return text("url", "contains", fraction, ExpectedConditions.urlContains(fraction));
+    }
+
+    /**
+     * document.readyState is "complete" (the page and its resources have loaded).
+     */
+    public static ReadyCondition<Boolean> documentReady() {
+        ExpectedCondition<Boolean> condition = new ExpectedCondition<>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                if (driver instanceof JavascriptExecutor executor) {
+                    try {
+                        return "complete".equals(executor.executeScript("return document.readyState"));
+                    } catch (UnsupportedOperationException e) {
+                        // Scripting off: fall through
+                    }
+                }
+                // Without scripts there is nothing loading after get() returned: ready once there is a document
+                return driver.getPageSource() != null;
+            }
+
+            @Override
+            public String toString() {
+                return "document to be ready";
+            }
+        };
+        return new ReadyCondition<>(condition, Map.of("kind", "ready"));
+    }
+
+    /**
+     * Negation of a boolean ready condition, e.g. {@code not(titleIs(initialTitle))}.
+     */
+    public static ReadyCondition<Boolean> not(ReadyCondition<Boolean> condition) {
+        return condition.negated(ExpectedConditions.not(condition.condition()));
+    }
+
+    private static ReadyCondition<WebElement> element(String kind, ExpectedCondition<WebElement> condition, By locator) {
+        Map<String, Object> signal = new LinkedHashMap<>();
+        signal.put("kind", kind);
+        // Custom locators cannot be evaluated in the page: the wait then falls back to fast polling
+        LocatorScript.toSpec(locator).ifPresent(spec -> signal.put("locator", spec));
+        return new ReadyCondition<>(condition, signal);
+    }
+
+    private static ReadyCondition<Boolean> text(String kind, String operator, String expected,
+                                                ExpectedCondition<Boolean> condition) {
+        return new ReadyCondition<>(condition, Map.of("kind", kind, "op", operator, "expected", expected));
+    }
+}
@@ -0,0 +1,180 @@
+package com.una.selenium.tests.support.wait;
+
+import com.una.selenium.tests.support.script.LocatorScript;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * WebDriverWait that returns as soon as the condition becomes true instead of on the next 500 ms poll.
+ *
+ * For {@link ReadyCondition}s the wait parks inside the page with an async script that resolves on the first
+ * DOM mutation or lifecycle event (readystatechange, load, hashchange, popstate) that satisfies the condition.
+ * A navigation ends the script early, which simply triggers a re-check. Plain ExpectedConditions still work,
+ * polled every 50 ms, and so do ReadyConditions on sessions that cannot run scripts (e.g. HtmlUnit with
+ * JavaScript off). Every wait records its actual duration against its timeout ({@link #lastWaitMillis()} and the
+ * "Waits" section of the run report).
+ *
+ * Usage is the same as WebDriverWait: {@code new ReadyWait(driver, Duration.ofSeconds(10)).until(ReadyConditions.titleIs("Google"))}
+ */
+public class ReadyWait extends WebDriverWait {
+
+    private static final Duration FALLBACK_POLLING = Duration.ofMillis(50);
+    // Upper bound for one in-page wait, well below the driver's default 30 s script timeout
+    private static final long MAX_SLICE_MILLIS = 5_000;
+
+    private static final String SIGNAL_SCRIPT = LocatorScript.FIND_FUNCTION + """
+            var spec = arguments[0], sliceMs = arguments[1], done = arguments[arguments.length - 1];
+            function clickable(el) { return __visible(el) && !el.disabled; }
+            function matches(actual) {
+              actual = actual || '';
+              return spec.op === 'is' ? actual === spec.expected : actual.indexOf(spec.expected) >= 0;
+            }
+            function check() {
+              var result;
+              switch (spec.kind) {
+                case 'present': result = __find(spec.locator).length > 0; break;
+                case 'visible': result = __find(spec.locator).some(__visible); break;
+                case 'clickable': result = __find(spec.locator).some(clickable); break;
+                case 'any-clickable': result = spec.locators.some(function (l) { return __find(l).some(clickable); }); break;
+                case 'title': result = matches(document.title); break;
+                case 'url': result = matches(window.location.href); break;
+                case 'ready': result = document.readyState === 'complete'; break;
+                default: result = true;
+              }
+              return spec.negate ? !result : result;
+            }
+            if (check()) { done(true); return; }
+            var finished = false, timer, observer;
+            var events = [[document, 'readystatechange'], [window, 'load'], [window, 'hashchange'], [window, 'popstate']];
+            function finish(value) {
+              if (finished) { return; }
+              finished = true;
+              clearTimeout(timer);
+              observer.disconnect();
+              events.forEach(function (e) { e[0].removeEventListener(e[1], onChange); });
+              done(value);
+            }
+            function onChange() { if (check()) { finish(true); } }
+            observer = new MutationObserver(onChange);
+            observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});
+            events.forEach(function (e) { e[0].addEventListener(e[1], onChange); });
+            timer = setTimeout(function () { finish(false); }, sliceMs);
+            """;
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private volatile long lastWaitNanos;
+
+    public ReadyWait(WebDriver driver, Duration timeout) {
+        super(driver, timeout, FALLBACK_POLLING);
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        long start = System.nanoTime();
+        boolean timedOut = true;
+        String kind = "polling";
+        try {
+            V value;
+            if (isTrue instanceof ReadyCondition<?> ready && driver instanceof JavascriptExecutor
+                    && (!isElementKind(ready) || ready.signal().containsKey("locator") || ready.signal().containsKey("locators"))) {
+                kind = ready.kind();
+                value = untilSignalled(isTrue, ready);
+            } else {
+                value = super.until(isTrue);
+            }
+            timedOut = false;
+            return value;
+        } finally {
+            lastWaitNanos = System.nanoTime() - start;
+            WaitStats.record(kind, lastWaitNanos, timeout.toNanos(), timedOut);
+        }
+    }
+
+    /**
+     * How long the last call to {@link #until} took, in milliseconds.
+     */
+    public double lastWaitMillis() {
+        return lastWaitNanos / 1_000_000.0;
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    private <V> V untilSignalled(Function<? super WebDriver, V> isTrue, ReadyCondition<?> ready) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        RuntimeException lastException = null;
+        Signal previous = Signal.QUIET;
+        while (true) {
+            try {
+                V value = isTrue.apply(driver);
+                if (value != null && (!(value instanceof Boolean) || Boolean.TRUE.equals(value))) {
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastException = e;
+            }
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                throw timeoutException(String.format("Expected condition failed: waiting for %s (tried for %d ms)",
+                        ready, timeout.toMillis()), lastException);
+            }
+            if (previous == Signal.MET || previous == Signal.INTERRUPTED_AGAIN || previous == Signal.NO_SCRIPTS) {
+                // The in-page check and the WebDriver check disagree (e.g. a different element matched first),
+                // or the script keeps failing: avoid spinning on round trips and poll briefly instead
+                sleep(Math.min(remainingMillis, FALLBACK_POLLING.toMillis()));
+            }
+            if (previous == Signal.NO_SCRIPTS) {
+                continue;
+            }
+            Signal signal = awaitSignal(ready, Math.min(remainingMillis, MAX_SLICE_MILLIS));
+            previous = signal == Signal.INTERRUPTED && previous.interrupted() ? Signal.INTERRUPTED_AGAIN : signal;
+        }
+    }
+
+    private Signal awaitSignal(ReadyCondition<?> ready, long sliceMillis) {
+        try {
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(SIGNAL_SCRIPT, ready.signal(), sliceMillis);
+            return Boolean.TRUE.equals(result) ? Signal.MET : Signal.QUIET;
+        } catch (WebDriverException e) {
+            // Navigation unloaded the document (or the script timed out): re-check on the new page
+            return Signal.INTERRUPTED;
+        } catch (UnsupportedOperationException e) {
+            // JavascriptExecutor with scripting off: poll for the rest of the wait
+            return Signal.NO_SCRIPTS;
+        }
+    }
+
+    // Outcome of one in-page wait
+    private enum Signal {
+        MET, QUIET, INTERRUPTED, INTERRUPTED_AGAIN, NO_SCRIPTS;
+
+        boolean interrupted() {
+            return this == INTERRUPTED || this == INTERRUPTED_AGAIN;
+        }
+    }
+
+    private static boolean isElementKind(ReadyCondition<?> ready) {
+        Object kind = ready.signal().get("kind");
+        return "present".equals(kind) || "visible".equals(kind) || "clickable".equals(kind) || "any-clickable".equals(kind);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException(e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.una.selenium.tests.support.wait;
+
+import com.una.selenium.tests.support.FakeDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReadyWait on a session that cannot run scripts (HtmlUnit with JavaScript off, as on the in-process tier),
+ * and its in-page wait on a fake session.
+ */
+public class ReadyWaitTest {
+
+    private final WebDriver driver = new HtmlUnitDriver(false);
+
+    @AfterEach
+    void tearDown() {
+        driver.quit();
+    }
+
+    @Test
+    void fallsBackToPollingWithoutJavaScript() {
+        driver.get("data:text/html,<title>Ready</title><p>static page</p>");
+
+        assertTrue(new ReadyWait(driver, Duration.ofSeconds(2)).until(ReadyConditions.titleIs("Ready")));
+        ReadyWait wait = new ReadyWait(driver, Duration.ofMillis(300));
+        assertThrows(TimeoutException.class, () -> wait.until(ReadyConditions.titleIs("Never")));
+        assertTrue(wait.lastWaitMillis() >= 300, "Polls until the timeout: " + wait.lastWaitMillis());
+        assertTrue(new ReadyWait(driver, Duration.ofSeconds(2)).until(ReadyConditions.documentReady()));
+    }
+
+    @Test
+    void endsWhenThePageSignalsAndRechecksAfterNavigation() {
+        String[] title = {"Loading"};
+        AtomicInteger checks = new AtomicInteger();
+        AtomicInteger signals = new AtomicInteger();
+        WebDriver page = FakeDriver.driver().implementing(JavascriptExecutor.class).strict()
+                .on("getTitle", args -> {
+                    checks.incrementAndGet();
+                    return title[0];
+                })
+                .on("executeAsyncScript", args -> {
+                    if (signals.incrementAndGet() == 1) {
+                        // The document was unloaded while the script waited
+                        throw new WebDriverException("javascript error: document unloaded while waiting for result");
+                    }
+                    title[0] = "Ready";
+                    return true;
+                })
+                .build();
+        ReadyWait wait = new ReadyWait(page, Duration.ofSeconds(30));
+
+        assertTrue(wait.until(ReadyConditions.titleIs("Ready")));
+        assertEquals(2, signals.get());
+        assertEquals(3, checks.get(), "Checked once up front, once after the navigation and once after the signal");
+        assertTrue(wait.lastWaitMillis() < 1_000, "Must not poll: " + wait.lastWaitMillis());
+    }
+}
@@ -0,0 +1,57 @@
+package com.una.selenium.tests.support.wait;
+
+import com.una.selenium.tests.support.report.RunReport;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated wait durations for the run report: how long waits actually took compared to their timeout.
+ */
+public final class WaitStats {
+
+    private static final Map<String, Entry> BY_KIND = new ConcurrentSkipListMap<>();
+
+    static {
+        RunReport.register("Waits", WaitStats::report);
+    }
+
+    private WaitStats() {
+    }
+
+    static void record(String kind, long elapsedNanos, long timeoutNanos, boolean timedOut) {
+        Entry entry = BY_KIND.computeIfAbsent(kind, key -> new Entry());
+        entry.count.increment();
+        entry.elapsedNanos.add(elapsedNanos);
+        entry.timeoutNanos.add(timeoutNanos);
+        entry.maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        if (timedOut) {
+            entry.timeouts.increment();
+        }
+    }
+
+    static String report() {
+        if (BY_KIND.isEmpty()) {
+            return "no waits";
+        }
+        StringBuilder out = new StringBuilder();
+        BY_KIND.forEach((kind, entry) -> {
+            long count = entry.count.sum();
+            double avgMs = entry.elapsedNanos.sum() / 1_000_000.0 / count;
+            double budgetUsed = 100.0 * entry.elapsedNanos.sum() / Math.max(1, entry.timeoutNanos.sum());
+            out.append(String.format("%-22s count=%d, avg=%.1f ms, max=%.1f ms, %.1f%% of timeout used, timeouts=%d%n",
+                    kind, count, avgMs, entry.maxNanos.get() / 1_000_000.0, budgetUsed, entry.timeouts.sum()));
+        });
+        return out.toString().stripTrailing();
+    }
+
+    private static final class Entry {
+        final LongAdder count = new LongAdder();
+        final LongAdder timeouts = new LongAdder();
+        final LongAdder elapsedNanos = new LongAdder();
+        final LongAdder timeoutNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+    }
+}